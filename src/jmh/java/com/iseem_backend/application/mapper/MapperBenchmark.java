@@ -0,0 +1,58 @@
+package com.iseem_backend.application.mapper;
+
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.model.Enseignant;
+import com.iseem_backend.application.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int TAILLE = 1000;
+
+    private final StudentMapper studentMapper = new StudentMapper();
+    private final EnseignantMapper enseignantMapper = new EnseignantMapper();
+    private List<Student> etudiants;
+    private List<Enseignant> enseignants;
+
+    @Setup
+    public void preparer() {
+        etudiants = JeuDeDonnees.etudiants(TAILLE, 42);
+        enseignants = JeuDeDonnees.enseignants(TAILLE, 6, 42);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAILLE)
+    public void studentToDto(Blackhole trou) {
+        for (Student student : etudiants) {
+            trou.consume(studentMapper.toDto(student));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAILLE)
+    public void enseignantToDto(Blackhole trou) {
+        for (Enseignant enseignant : enseignants) {
+            trou.consume(enseignantMapper.toDto(enseignant));
+        }
+    }
+}
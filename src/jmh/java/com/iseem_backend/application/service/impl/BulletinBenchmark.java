@@ -0,0 +1,101 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.DTO.response.NoteModuleResponse;
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.model.Student;
+import com.iseem_backend.application.utils.BulletinPDFGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulletinBenchmark {
+
+    private static final int PROMOTION = 40;
+
+    @Param({"8", "24"})
+    private int modules;
+
+    private NoteServiceImpl service;
+    private Student student;
+    private List<Note> notes;
+    private List<NoteModuleResponse> lignesModules;
+    private BigDecimal[] moyennes;
+    private BulletinResponse bulletin;
+    private List<BulletinResponse> promotion;
+
+    @Setup
+    public void preparer() {
+        service = new NoteServiceImpl(null, null, null, null, null, null, null, null, null, null, null);
+        student = JeuDeDonnees.etudiants(1, 42).get(0);
+        List<Module> listeModules = JeuDeDonnees.modules(modules, 7);
+        notes = JeuDeDonnees.notes(student, listeModules, 11);
+        bulletin = service.construireBulletin(student, notes, JeuDeDonnees.ANNEE_SCOLAIRE, TypeNote.EXAMEN_TH);
+        lignesModules = new ArrayList<>(bulletin.getNotes());
+        promotion = Collections.nCopies(PROMOTION, bulletin);
+
+        Random aleatoire = new Random(3);
+        moyennes = new BigDecimal[256];
+        for (int i = 0; i < moyennes.length; i++) {
+            moyennes[i] = BigDecimal.valueOf(aleatoire.nextInt(2001), 2);
+        }
+    }
+
+    @Benchmark
+    public BulletinResponse construireBulletin() {
+        return service.construireBulletin(student, notes, JeuDeDonnees.ANNEE_SCOLAIRE, TypeNote.EXAMEN_TH);
+    }
+
+    @Benchmark
+    public void calculerMoyenneModule(Blackhole trou) {
+        for (NoteModuleResponse ligne : lignesModules) {
+            trou.consume(service.calculerMoyenneModule(ligne, TypeNote.EXAMEN_TH));
+        }
+    }
+
+    @Benchmark
+    public void calculerMention(Blackhole trou) {
+        for (BigDecimal moyenne : moyennes) {
+            trou.consume(service.calculerMention(moyenne));
+        }
+    }
+
+    @Benchmark
+    public byte[] genererPdfBulletin() {
+        return BulletinPDFGenerator.generatePDF(bulletin);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROMOTION)
+    public void genererPdfPromotion() throws IOException {
+        BulletinPDFGenerator.ecrire(promotion, OutputStream.nullOutputStream());
+    }
+}
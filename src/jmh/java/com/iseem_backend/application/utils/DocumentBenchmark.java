@@ -0,0 +1,143 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.model.Diplome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentBenchmark {
+
+    @Param({"40", "1000"})
+    private int cartes;
+
+    private List<CardGenerator.CarteEtudiant> lot;
+    private ExecutorService executeur;
+    private Diplome diplome;
+    private Diplome diplomeCommente;
+    private List<Diplome> diplomes;
+    private List<PlancheQRCodeGenerator.EtiquetteQRCode> etiquettes;
+
+    @Setup
+    public void preparer() throws IOException {
+        String photo = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(photo());
+        lot = JeuDeDonnees.etudiants(cartes, 42).stream()
+                .peek(etudiant -> etudiant.getUser().setImage(photo))
+                .map(etudiant -> CardGenerator.carte(etudiant, Path.of("."), "https://iseem.ma/verification/etudiants/"))
+                .toList();
+        executeur = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Random aleatoire = new Random(42);
+        diplome = JeuDeDonnees.diplome(aleatoire);
+        diplomeCommente = JeuDeDonnees.diplome(aleatoire);
+        diplomeCommente.setCommentaire("Diplôme délivré après délibération du jury, avec les félicitations du jury. ".repeat(12));
+        diplomes = IntStream.range(0, cartes).mapToObj(i -> JeuDeDonnees.diplome(aleatoire)).toList();
+        etiquettes = lot.stream()
+                .map(carte -> new PlancheQRCodeGenerator.EtiquetteQRCode(carte.urlVerification(),
+                        carte.prenom() + " " + carte.nom(), "Licence en management - 2024", carte.matricule()))
+                .toList();
+    }
+
+    @TearDown
+    public void arreter() {
+        executeur.shutdown();
+    }
+
+    @Benchmark
+    public void genererCartes() throws IOException {
+        CardGenerator.ecrire(List.of(lot), OutputStream.nullOutputStream(), executeur);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(CardGenerator.CARTES_PAR_PAGE)
+    public byte[] cartesParSeconde() throws Exception {
+        return CardGenerator.rendreGroupe(lot.subList(0, CardGenerator.CARTES_PAR_PAGE));
+    }
+
+    @Benchmark
+    public byte[] genererDiplome() {
+        return DiplomePDFGenerator.generatePDF(diplome);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void diplomesParSeconde() throws IOException {
+        DiplomePDFGenerator.ecrire(diplome, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void diplomesCommentesParSeconde() throws IOException {
+        DiplomePDFGenerator.ecrire(diplomeCommente, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void genererDiplomes() throws Exception {
+        for (Future<byte[]> diplome : executeur.invokeAll(diplomes.stream()
+                .<Callable<byte[]>>map(d -> () -> DiplomePDFGenerator.generatePDF(d))
+                .toList())) {
+            diplome.get();
+        }
+    }
+
+    @Benchmark
+    public void genererPlancheQRCodes() throws IOException {
+        PlancheQRCodeGenerator.ecrire(List.of(etiquettes), OutputStream.nullOutputStream(), executeur);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public byte[] qrCodePng() {
+        return QRCodes.png(diplome.getQrCodeUrl(), 250);
+    }
+
+    private static byte[] photo() throws IOException {
+        BufferedImage image = new BufferedImage(1200, 1600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphique = image.createGraphics();
+        graphique.setPaint(new GradientPaint(0, 0, Color.LIGHT_GRAY, 1200, 1600, Color.DARK_GRAY));
+        graphique.fillRect(0, 0, 1200, 1600);
+        graphique.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", jpeg);
+        return jpeg.toByteArray();
+    }
+}
@@ -0,0 +1,125 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.enums.Niveau;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelParsingBenchmark {
+
+    private static final int CELLULES = 1000;
+
+    @Param({"1000", "10000"})
+    private int lignes;
+
+    private MockMultipartFile classeur;
+    private XSSFWorkbook classeurCellules;
+    private Cell[] texte;
+    private Cell[] nombres;
+    private Cell[] dates;
+    private Cell[] niveaux;
+
+    @Setup
+    public void preparer() throws IOException {
+        classeur = new MockMultipartFile("file", "etudiants.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                JeuDeDonnees.classeurEtudiants(lignes, 42));
+
+        classeurCellules = new XSSFWorkbook();
+        Sheet feuille = classeurCellules.createSheet("Cellules");
+        CellStyle styleDate = classeurCellules.createCellStyle();
+        styleDate.setDataFormat(classeurCellules.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        Niveau[] valeursNiveau = Niveau.values();
+        texte = new Cell[CELLULES];
+        nombres = new Cell[CELLULES];
+        dates = new Cell[CELLULES];
+        niveaux = new Cell[CELLULES];
+        for (int i = 0; i < CELLULES; i++) {
+            Row ligne = feuille.createRow(i);
+            texte[i] = ligne.createCell(0);
+            texte[i].setCellValue("  Valeur " + i + "  ");
+            nombres[i] = ligne.createCell(1);
+            nombres[i].setCellValue(i % 2 == 0 ? i : i + 0.5);
+            dates[i] = ligne.createCell(2);
+            dates[i].setCellValue(LocalDate.of(2000, 1, 1).plusDays(i).toString());
+            niveaux[i] = ligne.createCell(3);
+            niveaux[i].setCellValue(valeursNiveau[i % valeursNiveau.length].name());
+            Cell dateNumerique = ligne.createCell(4);
+            dateNumerique.setCellValue(LocalDate.of(2000, 1, 1).plusDays(i));
+            dateNumerique.setCellStyle(styleDate);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void liberer() throws IOException {
+        classeurCellules.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int importerEtudiants() {
+        int[] total = {0};
+        ExcelUtils.importStudents(classeur, 500, lot -> total[0] += lot.size());
+        return total[0];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(CELLULES * 2)
+    public void getCellValueAsString(Blackhole trou) {
+        for (int i = 0; i < CELLULES; i++) {
+            trou.consume(ExcelUtils.getCellValueAsString(texte[i]));
+            trou.consume(ExcelUtils.getCellValueAsString(nombres[i]));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(CELLULES * 2)
+    public void parserDates(Blackhole trou) {
+        for (int i = 0; i < CELLULES; i++) {
+            trou.consume(ExcelUtils.parseCellDate(dates[i]));
+            trou.consume(ExcelUtils.getCellValueAsString(dates[i].getRow().getCell(4)));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(CELLULES)
+    public void parserEnums(Blackhole trou) {
+        for (int i = 0; i < CELLULES; i++) {
+            trou.consume(ExcelUtils.parseEnum(niveaux[i], Niveau.class));
+        }
+    }
+}
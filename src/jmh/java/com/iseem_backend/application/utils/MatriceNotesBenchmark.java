@@ -0,0 +1,63 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatriceNotesBenchmark {
+
+    @Param({"500", "5000"})
+    private int etudiants;
+
+    private MatriceNotes matrice;
+    private Note note;
+
+    @Setup
+    public void preparer() {
+        matrice = new MatriceNotes(JeuDeDonnees.ANNEE_SCOLAIRE);
+        List<Module> modules = JeuDeDonnees.modules(24, 7);
+        modules.forEach(module -> matrice.definirModule(module.getIdModule(), module.getCoefficient()));
+        for (Student student : JeuDeDonnees.etudiants(etudiants, 42)) {
+            matrice.definirEtudiant(student.getUserId(), student.getNiveau(), student.getGroupe(),
+                    student.getMatricule(), student.getUser().getNom(), student.getUser().getPrenom());
+            for (Note n : JeuDeDonnees.notes(student, modules, student.getMatricule().hashCode())) {
+                matrice.definirNote(student.getUserId(), n.getModule().getIdModule(), n.getTypeNote(), n.getValeur());
+                note = n;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MatriceNotes.LigneClassement> classer() {
+        return matrice.classer(Niveau.premiere_annee, TypeNote.EXAMEN_TH);
+    }
+
+    @Benchmark
+    public boolean definirNote() {
+        return matrice.definirNote(note.getStudent().getUserId(), note.getModule().getIdModule(),
+                note.getTypeNote(), note.getValeur());
+    }
+}
@@ -0,0 +1,23 @@
+package com.iseem_backend.application.DTO.response;
+
+import com.iseem_backend.application.enums.StatutSaisieNote;
+import com.iseem_backend.application.enums.TypeNote;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkNoteLigneResponse {
+    private int ligne;
+    private UUID studentId;
+    private UUID moduleId;
+    private TypeNote typeNote;
+    private String anneeScolaire;
+    private UUID idNote;
+    private StatutSaisieNote statut;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkNoteReportResponse {
+    private int total;
+    private int inserees;
+    private int misesAJour;
+    private int rejetees;
+    private List<BulkNoteLigneResponse> lignes;
+}
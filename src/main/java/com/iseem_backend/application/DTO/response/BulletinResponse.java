@@ -10,7 +10,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BulletinResponse {
     private UUID studentId;
     private String studentNom;
@@ -22,5 +22,7 @@ public class BulletinResponse {
     private List<NoteModuleResponse> notes;
     private BigDecimal moyenneGenerale;
     private String mention;
+    private Long rang;
+    private Long effectifClasse;
     private String professeurResponsable;
 }
\ No newline at end of file
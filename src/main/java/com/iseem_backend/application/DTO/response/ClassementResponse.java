@@ -0,0 +1,25 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassementResponse {
+    private UUID studentId;
+    private String matricule;
+    private String nom;
+    private String prenom;
+    private String groupe;
+    private BigDecimal moyenneGenerale;
+    private String mention;
+    private long rangNiveau;
+    private long effectifNiveau;
+    private long rangGroupe;
+    private long effectifGroupe;
+}
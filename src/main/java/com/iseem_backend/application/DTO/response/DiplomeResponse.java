@@ -31,4 +31,6 @@ public class DiplomeResponse {
     private ModeRemise modeRemise;
     private Set<UUID> professeursIds;
     private UUID studentId;
+    private String fichierNom;
+    private Long fichierTaille;
 }
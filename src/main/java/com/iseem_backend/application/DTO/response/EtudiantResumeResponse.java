@@ -0,0 +1,20 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EtudiantResumeResponse {
+    private UUID userId;
+    private String matricule;
+    private String nom;
+    private String prenom;
+    private String email;
+    private String niveau;
+    private String groupe;
+}
@@ -0,0 +1,17 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+import org.springframework.core.io.Resource;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FichierResponse {
+    private String cle;
+    private String nom;
+    private String contentType;
+    private Long taille;
+    private Resource contenu;
+}
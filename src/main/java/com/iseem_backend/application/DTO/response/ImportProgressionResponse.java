@@ -0,0 +1,23 @@
+package com.iseem_backend.application.DTO.response;
+
+import com.iseem_backend.application.enums.StatutImport;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportProgressionResponse {
+    private String importId;
+    private String type;
+    private StatutImport statut;
+    private int lignesLues;
+    private int motsDePasseHaches;
+    private int enregistres;
+    private int rejetes;
+    private Instant debut;
+    private Instant fin;
+}
@@ -0,0 +1,28 @@
+package com.iseem_backend.application.DTO.response;
+
+import com.iseem_backend.application.enums.StatutJob;
+import com.iseem_backend.application.enums.TypeJob;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobResponse {
+    private UUID idJob;
+    private TypeJob type;
+    private StatutJob statut;
+    private int progression;
+    private String message;
+    private String nomFichier;
+    private String contentType;
+    private Long taille;
+    private String demandePar;
+    private LocalDateTime dateCreation;
+    private LocalDateTime dateDebut;
+    private LocalDateTime dateFin;
+}
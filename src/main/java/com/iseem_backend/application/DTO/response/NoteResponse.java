@@ -1,5 +1,6 @@
 package com.iseem_backend.application.DTO.response;
 
+import com.iseem_backend.application.enums.StatutSaisieNote;
 import com.iseem_backend.application.enums.TypeNote;
 import lombok.*;
 
@@ -26,4 +27,5 @@ public class NoteResponse {
     private LocalDateTime dateCreation;
     private LocalDateTime dateModification;
     private String saisiePar;
+    private StatutSaisieNote statut;
 }
\ No newline at end of file
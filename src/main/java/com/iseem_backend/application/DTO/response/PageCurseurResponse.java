@@ -0,0 +1,16 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageCurseurResponse<T> {
+    private List<T> elements;
+    private int taille;
+    private String curseurSuivant;
+}
@@ -0,0 +1,13 @@
+package com.iseem_backend.application.DTO.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QRCodeResponse {
+    private String empreinte;
+    private byte[] image;
+}
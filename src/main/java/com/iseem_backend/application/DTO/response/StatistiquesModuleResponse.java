@@ -0,0 +1,30 @@
+package com.iseem_backend.application.DTO.response;
+
+import com.iseem_backend.application.enums.TypeNote;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatistiquesModuleResponse {
+    private UUID moduleId;
+    private String moduleNom;
+    private TypeNote typeNote;
+    private String anneeScolaire;
+    private long effectif;
+    private BigDecimal moyenne;
+    private BigDecimal mediane;
+    private BigDecimal premierQuartile;
+    private BigDecimal troisiemeQuartile;
+    private BigDecimal minimum;
+    private BigDecimal maximum;
+    private BigDecimal ecartType;
+    private BigDecimal tauxReussite;
+    private List<Long> histogramme;
+}
@@ -0,0 +1,36 @@
+package com.iseem_backend.application.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String BULLETINS = "bulletins";
+    public static final String STATISTIQUES_NOTES = "statistiques-notes";
+    public static final String CLASSEMENTS = "classements";
+    public static final String MATRICES_NOTES = "matrices-notes";
+    public static final String QR_CODES = "qr-codes";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${iseem.cache.bulletins:maximumSize=20000,expireAfterWrite=30m}") String specBulletins,
+                                     @Value("${iseem.cache.statistiques-notes:maximumSize=1000,expireAfterWrite=6h}") String specStatistiques,
+                                     @Value("${iseem.cache.classements:maximumSize=500,expireAfterWrite=6h}") String specClassements,
+                                     @Value("${iseem.cache.matrices-notes:maximumSize=4,expireAfterWrite=1h}") String specMatrices,
+                                     @Value("${iseem.cache.qr-codes:maximumSize=10000,expireAfterAccess=7d}") String specQrCodes) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(BULLETINS, Caffeine.from(specBulletins).recordStats().build());
+        manager.registerCustomCache(STATISTIQUES_NOTES, Caffeine.from(specStatistiques).recordStats().build());
+        manager.registerCustomCache(CLASSEMENTS, Caffeine.from(specClassements).recordStats().build());
+        manager.registerCustomCache(MATRICES_NOTES, Caffeine.from(specMatrices).recordStats().build());
+        manager.registerCustomCache(QR_CODES, Caffeine.from(specQrCodes).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+}
@@ -47,6 +47,8 @@ public class ConfigurationSecurite {
                                 "/swagger-resources/**",
                                 "/webjars/**"
                         ).permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMINISTRATION")
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMINISTRATION")
                         .requestMatchers("/api/v1/enseignant/**").hasAnyRole("ENSEIGNANT", "ADMINISTRATION")
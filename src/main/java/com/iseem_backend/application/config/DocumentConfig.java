@@ -0,0 +1,29 @@
+package com.iseem_backend.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class DocumentConfig {
+
+    @Bean(name = "executeurDocuments", destroyMethod = "shutdown")
+    public ExecutorService executeurDocuments(@Value("${iseem.documents.render-threads:0}") int threads) {
+        int taille = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger compteur = new AtomicInteger();
+        ThreadFactory fabrique = r -> {
+            Thread thread = new Thread(r, "documents-" + compteur.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(taille, taille, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(taille * 64), fabrique, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,31 @@
+package com.iseem_backend.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableScheduling
+public class JobConfig {
+
+    @Bean(name = "executeurJobs", destroyMethod = "shutdown")
+    public ExecutorService executeurJobs(@Value("${iseem.jobs.threads:2}") int threads,
+                                         @Value("${iseem.jobs.queue-capacity:100}") int capacite) {
+        AtomicInteger compteur = new AtomicInteger();
+        ThreadFactory fabrique = r -> {
+            Thread thread = new Thread(r, "job-" + compteur.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(capacite), fabrique, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
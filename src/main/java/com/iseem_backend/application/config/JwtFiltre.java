@@ -9,17 +9,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 @RequiredArgsConstructor
 public class JwtFiltre extends OncePerRequestFilter {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final JwtUtil jwtUtil;
 
     @Override
@@ -38,28 +38,23 @@ public class JwtFiltre extends OncePerRequestFilter {
         return;
     }
         final String authorizationHeader = request.getHeader("Authorization");
-        String email = null;
-        String jwt = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
+            JwtPrincipal principal;
             try {
-                email = jwtUtil.extraireEmail(jwt);
+                principal = jwtUtil.verifier(jwt);
             } catch (Exception e) {
                 var body = GlobalResponseHandler.error("Token invalide ou expiré", 401);
                 response.setContentType("application/json");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write(new ObjectMapper().writeValueAsString(body));
+                response.getWriter().write(OBJECT_MAPPER.writeValueAsString(body));
                 return;
             }
-        }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validerToken(jwt, email)) {
-                String role = jwtUtil.extraireRole(jwt);
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+            if (principal.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(email, null, Collections.singletonList(authority));
+                        new UsernamePasswordAuthenticationToken(principal.email(), null, principal.autorites());
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
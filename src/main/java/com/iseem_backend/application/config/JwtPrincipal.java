@@ -0,0 +1,18 @@
+package com.iseem_backend.application.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record JwtPrincipal(String email, String userId, String role, Instant expiration) {
+
+    public boolean estExpire() {
+        return expiration == null || !expiration.isAfter(Instant.now());
+    }
+
+    public List<GrantedAuthority> autorites() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+}
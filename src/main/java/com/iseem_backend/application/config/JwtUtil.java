@@ -1,16 +1,28 @@
 package com.iseem_backend.application.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.iseem_backend.application.model.User;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 
 @Component
@@ -22,8 +34,45 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long tailleCache;
+
+    @Value("${jwt.cache.max-ttl:PT15M}")
+    private Duration dureeMaxCache;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, JwtPrincipal> principals;
+
+    @PostConstruct
+    void initialiser() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        principals = Caffeine.newBuilder()
+                .maximumSize(tailleCache)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String cle, JwtPrincipal principal, long currentTime) {
+                        Duration restant = Duration.between(Instant.now(), principal.expiration());
+                        if (restant.isNegative()) {
+                            return 0;
+                        }
+                        return (restant.compareTo(dureeMaxCache) < 0 ? restant : dureeMaxCache).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String cle, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return expireAfterCreate(cle, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String cle, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String genererToken(User user) {
@@ -40,49 +89,60 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    public JwtPrincipal verifier(String token) {
+        String cle = empreinte(token);
+        JwtPrincipal principal = principals.getIfPresent(cle);
+        if (principal != null) {
+            if (principal.estExpire()) {
+                principals.invalidate(cle);
+                throw new ExpiredJwtException(null, null, "Token expiré");
+            }
+            return principal;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("userId", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+        if (principal.estExpire()) {
+            throw new ExpiredJwtException(null, claims, "Token expiré");
+        }
+        principals.put(cle, principal);
+        return principal;
+    }
+
     public Boolean validerToken(String token, String email) {
         try {
-            final String tokenEmail = extraireEmail(token);
-            return (tokenEmail.equals(email) && !estTokenExpire(token));
+            return verifier(token).email().equals(email);
         } catch (Exception e) {
             return false;
         }
     }
 
     public String extraireEmail(String token) {
-        return extraireClaim(token, Claims::getSubject);
+        return verifier(token).email();
     }
 
     public String extraireUserId(String token) {
-        return (String) extraireTousclaims(token).get("userId");
+        return verifier(token).userId();
     }
 
     public String extraireRole(String token) {
-        return (String) extraireTousclaims(token).get("role");
-    }
-
-    public Date extraireDateExpiration(String token) {
-        return extraireClaim(token, Claims::getExpiration);
+        return verifier(token).role();
     }
 
-    public <T> T extraireClaim(String token, java.util.function.Function<Claims, T> claimsResolver) {
-        final Claims claims = extraireTousclaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extraireTousclaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Boolean estTokenExpire(String token) {
-        return extraireDateExpiration(token).before(new Date());
+    private String empreinte(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
     }
-}
\ No newline at end of file
+}
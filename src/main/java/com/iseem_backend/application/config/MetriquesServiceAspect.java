@@ -0,0 +1,39 @@
+package com.iseem_backend.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetriquesServiceAspect {
+
+    public static final String METRIQUE = "iseem.service";
+
+    private final MeterRegistry registry;
+
+    @Around("within(com.iseem_backend.application.service.impl..*) && @within(org.springframework.stereotype.Service)"
+            + " && execution(public * *(..)) && !within(com.iseem_backend.application.service.impl.ImportProgressionServiceImpl)")
+    public Object mesurer(ProceedingJoinPoint point) throws Throwable {
+        Timer.Sample chrono = Timer.start(registry);
+        String resultat = "succes";
+        try {
+            return point.proceed();
+        } catch (Throwable e) {
+            resultat = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            chrono.stop(Timer.builder(METRIQUE)
+                    .description("Durée des appels aux services métier")
+                    .tag("service", point.getSignature().getDeclaringType().getSimpleName())
+                    .tag("operation", point.getSignature().getName())
+                    .tag("resultat", resultat)
+                    .register(registry));
+        }
+    }
+}
@@ -2,17 +2,26 @@ package com.iseem_backend.application.controller;
 
 import com.iseem_backend.application.DTO.request.DiplomeRequest;
 import com.iseem_backend.application.DTO.response.DiplomeResponse;
+import com.iseem_backend.application.DTO.response.FichierResponse;
+import com.iseem_backend.application.DTO.response.QRCodeResponse;
 import com.iseem_backend.application.enums.TypeDiplome;
 import com.iseem_backend.application.service.DiplomeService;
+import com.iseem_backend.application.utils.Progression;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -77,12 +86,12 @@ public class DiplomeController {
 
     @Operation(summary = "Exporter tous les diplômes en fichier Excel")
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exporterDiplomes() {
-        byte[] data = diplomeService.exporterDiplomes();
+    public ResponseEntity<StreamingResponseBody> exporterDiplomes() {
+        StreamingResponseBody body = out -> diplomeService.exporterDiplomes(out, Progression.IGNOREE);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=diplomes.xlsx")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(data);
+                .body(body);
     }
 
     @Operation(summary = "Importer des diplômes depuis un fichier Excel")
@@ -92,23 +101,64 @@ public class DiplomeController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "Déposer le fichier numérisé d'un diplôme")
+    @PutMapping(value = "/{id}/fichier", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DiplomeResponse> deposerFichier(@PathVariable UUID id, @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(diplomeService.deposerFichier(id, file));
+    }
+
+    @Operation(summary = "Télécharger le fichier numérisé d'un diplôme", description = "Supporte les requêtes partielles (en-tête Range)")
+    @GetMapping("/{id}/fichier")
+    public ResponseEntity<Resource> telechargerFichier(@PathVariable UUID id) {
+        FichierResponse fichier = diplomeService.obtenirFichier(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(fichier.getNom() != null ? fichier.getNom() : "diplome_" + id, StandardCharsets.UTF_8)
+                        .build().toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(fichier.getCle())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(fichier.getContentType() != null
+                        ? MediaType.parseMediaType(fichier.getContentType()) : MediaType.APPLICATION_OCTET_STREAM)
+                .body(fichier.getContenu());
+    }
+
+    @Operation(summary = "Supprimer le fichier numérisé d'un diplôme")
+    @DeleteMapping("/{id}/fichier")
+    public ResponseEntity<Void> supprimerFichier(@PathVariable UUID id) {
+        diplomeService.supprimerFichier(id);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "Générer un code QR pour un diplôme")
     @GetMapping("/{id}/qrcode")
     public ResponseEntity<byte[]> genererQRCode(@PathVariable UUID id) {
-        byte[] data = diplomeService.genererQRCode(id);
+        QRCodeResponse qrCode = diplomeService.genererQRCode(id);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=qrcode.png")
+                .eTag(qrCode.getEmpreinte())
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(30)).cachePrivate())
                 .contentType(MediaType.IMAGE_PNG)
-                .body(data);
+                .body(qrCode.getImage());
+    }
+
+    @Operation(summary = "Générer une planche PDF imprimable des codes QR de plusieurs diplômes")
+    @PostMapping("/qrcodes/planche")
+    public ResponseEntity<StreamingResponseBody> genererPlancheQRCodes(@RequestBody List<UUID> ids) {
+        StreamingResponseBody body = out -> diplomeService.genererPlancheQRCodes(ids, out, Progression.IGNOREE);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=qrcodes_diplomes.pdf")
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(body);
     }
 
     @Operation(summary = "Générer un PDF pour un diplôme")
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<byte[]> genererPDF(@PathVariable UUID id) {
-        byte[] data = diplomeService.genererPDF(id);
+    public ResponseEntity<StreamingResponseBody> genererPDF(@PathVariable UUID id) {
+        StreamingResponseBody body = out -> diplomeService.genererPDF(id, out);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=diplome.pdf")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(data);
+                .body(body);
     }
 }
@@ -3,6 +3,7 @@ package com.iseem_backend.application.controller;
 import com.iseem_backend.application.DTO.request.EnseignantRequest;
 import com.iseem_backend.application.DTO.response.EnseignantResponse;
 import com.iseem_backend.application.service.EnseignantService;
+import com.iseem_backend.application.utils.Progression;
 import com.iseem_backend.application.utils.handler.GlobalResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -168,16 +170,17 @@ public class EnseignantController {
             @ApiResponse(responseCode = "400", description = "Fichier invalide")
     })
     @PostMapping("/import")
-    public ResponseEntity<?> importerDepuisExcel(@Parameter(description = "Fichier Excel") @RequestParam("file") MultipartFile file) {
-        List<EnseignantResponse> responses = enseignantService.importerEnseignantsDepuisExcel(file);
+    public ResponseEntity<?> importerDepuisExcel(@Parameter(description = "Fichier Excel") @RequestParam("file") MultipartFile file,
+                                                 @Parameter(description = "Identifiant de suivi de l'import") @RequestParam(value = "importId", required = false) String importId) {
+        List<EnseignantResponse> responses = enseignantService.importerEnseignantsDepuisExcel(file, importId);
         return GlobalResponseHandler.success(responses, "Enseignants importés avec succès");
     }
 
     @Operation(summary = "Exporter enseignants vers Excel", description = "Exporter tous les enseignants au format Excel")
     @ApiResponse(responseCode = "200", description = "Export réussi")
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exporterVersExcel() {
-        byte[] excelData = enseignantService.exporterEnseignantsVersExcel();
+    public ResponseEntity<StreamingResponseBody> exporterVersExcel() {
+        StreamingResponseBody body = out -> enseignantService.exporterEnseignantsVersExcel(out, Progression.IGNOREE);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
@@ -185,6 +188,6 @@ public class EnseignantController {
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(excelData);
+                .body(body);
     }
 }
\ No newline at end of file
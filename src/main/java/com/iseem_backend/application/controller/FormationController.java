@@ -3,6 +3,7 @@ package com.iseem_backend.application.controller;
 import com.iseem_backend.application.DTO.request.FormationRequest;
 import com.iseem_backend.application.DTO.response.FormationResponse;
 import com.iseem_backend.application.service.FormationService;
+import com.iseem_backend.application.utils.Progression;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -74,12 +76,12 @@ public class FormationController {
 
     @Operation(summary = "Exporter toutes les formations en Excel")
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exporterFormations() {
-        byte[] fileContent = formationService.exporterFormations();
+    public ResponseEntity<StreamingResponseBody> exporterFormations() {
+        StreamingResponseBody body = out -> formationService.exporterFormations(out, Progression.IGNOREE);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=formations.xlsx")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(fileContent);
+                .body(body);
     }
 
     @Operation(summary = "Importer des formations depuis un fichier Excel")
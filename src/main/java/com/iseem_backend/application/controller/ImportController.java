@@ -0,0 +1,26 @@
+package com.iseem_backend.application.controller;
+
+import com.iseem_backend.application.DTO.response.ImportProgressionResponse;
+import com.iseem_backend.application.service.ImportProgressionService;
+import com.iseem_backend.application.utils.handler.GlobalResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/imports")
+@RequiredArgsConstructor
+@Tag(name = "Suivi des imports", description = "Progression des imports Excel en cours")
+public class ImportController {
+
+    private final ImportProgressionService importProgressionService;
+
+    @Operation(summary = "Consulter la progression d'un import")
+    @GetMapping("/{importId}")
+    public ResponseEntity<?> consulterProgression(@PathVariable String importId) {
+        ImportProgressionResponse response = importProgressionService.consulter(importId);
+        return GlobalResponseHandler.success(response, "Progression de l'import");
+    }
+}
@@ -0,0 +1,141 @@
+package com.iseem_backend.application.controller;
+
+import com.iseem_backend.application.DTO.response.JobResponse;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeJob;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.service.DiplomeService;
+import com.iseem_backend.application.service.EnseignantService;
+import com.iseem_backend.application.service.FormationService;
+import com.iseem_backend.application.service.JobService;
+import com.iseem_backend.application.service.NoteService;
+import com.iseem_backend.application.service.StudentService;
+import com.iseem_backend.application.utils.handler.GlobalResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Jobs asynchrones", description = "Exports et génération de documents en arrière-plan")
+public class JobController {
+
+    private static final String EXCEL = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final JobService jobService;
+    private final StudentService studentService;
+    private final EnseignantService enseignantService;
+    private final DiplomeService diplomeService;
+    private final FormationService formationService;
+    private final NoteService noteService;
+
+    @Operation(summary = "Lancer l'export Excel des étudiants")
+    @PostMapping("/exports/etudiants")
+    public ResponseEntity<?> exporterEtudiants() {
+        JobResponse job = jobService.soumettre(TypeJob.EXPORT_ETUDIANTS, "etudiants.xlsx", EXCEL,
+                (out, progression) -> studentService.exporterEtudiants(out, progression));
+        return GlobalResponseHandler.success(job, "Export des étudiants lancé");
+    }
+
+    @Operation(summary = "Lancer l'export Excel des enseignants")
+    @PostMapping("/exports/enseignants")
+    public ResponseEntity<?> exporterEnseignants() {
+        JobResponse job = jobService.soumettre(TypeJob.EXPORT_ENSEIGNANTS, "enseignants_export.xlsx", EXCEL,
+                (out, progression) -> enseignantService.exporterEnseignantsVersExcel(out, progression));
+        return GlobalResponseHandler.success(job, "Export des enseignants lancé");
+    }
+
+    @Operation(summary = "Lancer l'export Excel des diplômes")
+    @PostMapping("/exports/diplomes")
+    public ResponseEntity<?> exporterDiplomes() {
+        JobResponse job = jobService.soumettre(TypeJob.EXPORT_DIPLOMES, "diplomes.xlsx", EXCEL,
+                (out, progression) -> diplomeService.exporterDiplomes(out, progression));
+        return GlobalResponseHandler.success(job, "Export des diplômes lancé");
+    }
+
+    @Operation(summary = "Lancer l'export Excel des formations")
+    @PostMapping("/exports/formations")
+    public ResponseEntity<?> exporterFormations() {
+        JobResponse job = jobService.soumettre(TypeJob.EXPORT_FORMATIONS, "formations.xlsx", EXCEL,
+                (out, progression) -> formationService.exporterFormations(out, progression));
+        return GlobalResponseHandler.success(job, "Export des formations lancé");
+    }
+
+    @Operation(summary = "Lancer la génération des cartes scolaires")
+    @PostMapping("/cartes")
+    public ResponseEntity<?> genererCartes(@RequestBody List<UUID> idsEtudiants) {
+        JobResponse job = jobService.soumettre(TypeJob.CARTES_ETUDIANTS, "cartes_etudiants.pdf", MediaType.APPLICATION_PDF_VALUE,
+                (out, progression) -> studentService.genererCartesScolaires(idsEtudiants, out, progression));
+        return GlobalResponseHandler.success(job, "Génération des cartes lancée");
+    }
+
+    @Operation(summary = "Lancer la génération des bulletins d'une promotion")
+    @PostMapping("/bulletins/promotion")
+    public ResponseEntity<?> genererBulletinsPromotion(@Parameter(description = "Niveau") @RequestParam Niveau niveau,
+                                                       @Parameter(description = "Groupe") @RequestParam(required = false) String groupe,
+                                                       @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
+                                                       @Parameter(description = "Type d'évaluation") @RequestParam TypeNote typeEvaluation,
+                                                       @Parameter(description = "Format: zip ou pdf") @RequestParam(defaultValue = "zip") String format) {
+        boolean fusionner = "pdf".equalsIgnoreCase(format);
+        String nom = "bulletins_" + niveau.name() + (groupe != null ? "_" + groupe : "") + "_" + anneeScolaire
+                + (fusionner ? ".pdf" : ".zip");
+        JobResponse job = jobService.soumettre(TypeJob.BULLETINS_PROMOTION, nom,
+                fusionner ? MediaType.APPLICATION_PDF_VALUE : "application/zip",
+                (out, progression) -> noteService.exporterBulletinsPromotion(niveau, groupe, anneeScolaire, typeEvaluation, fusionner, out, progression));
+        return GlobalResponseHandler.success(job, "Génération des bulletins lancée");
+    }
+
+    @Operation(summary = "Lancer la génération du PDF d'un diplôme")
+    @PostMapping("/diplomes/{id}/pdf")
+    public ResponseEntity<?> genererDiplomePDF(@PathVariable UUID id) {
+        JobResponse job = jobService.soumettre(TypeJob.DIPLOME_PDF, "diplome_" + id + ".pdf", MediaType.APPLICATION_PDF_VALUE,
+                (out, progression) -> diplomeService.genererPDF(id, out));
+        return GlobalResponseHandler.success(job, "Génération du diplôme lancée");
+    }
+
+    @Operation(summary = "Lancer la génération d'une planche de codes QR de diplômes")
+    @PostMapping("/diplomes/qrcodes")
+    public ResponseEntity<?> genererPlancheQRCodes(@RequestBody List<UUID> idsDiplomes) {
+        JobResponse job = jobService.soumettre(TypeJob.PLANCHE_QR_CODES, "qrcodes_diplomes.pdf", MediaType.APPLICATION_PDF_VALUE,
+                (out, progression) -> diplomeService.genererPlancheQRCodes(idsDiplomes, out, progression));
+        return GlobalResponseHandler.success(job, "Génération de la planche de QR codes lancée");
+    }
+
+    @Operation(summary = "Lister les jobs")
+    @GetMapping
+    public ResponseEntity<?> listerJobs(Pageable pageable) {
+        return GlobalResponseHandler.success(jobService.lister(pageable), "Liste des jobs");
+    }
+
+    @Operation(summary = "Consulter l'état d'un job")
+    @GetMapping("/{idJob}")
+    public ResponseEntity<?> consulterJob(@PathVariable UUID idJob) {
+        return GlobalResponseHandler.success(jobService.consulter(idJob), "État du job");
+    }
+
+    @Operation(summary = "Télécharger le fichier produit par un job", description = "Supporte les requêtes partielles (en-tête Range)")
+    @GetMapping("/{idJob}/fichier")
+    public ResponseEntity<Resource> telechargerFichier(@PathVariable UUID idJob) {
+        JobResponse job = jobService.consulter(idJob);
+        Resource fichier = jobService.fichier(idJob);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(job.getNomFichier(), StandardCharsets.UTF_8).build().toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(job.getContentType()))
+                .body(fichier);
+    }
+}
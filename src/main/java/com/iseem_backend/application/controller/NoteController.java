@@ -2,10 +2,15 @@ package com.iseem_backend.application.controller;
 
 import com.iseem_backend.application.DTO.request.BulkNoteRequest;
 import com.iseem_backend.application.DTO.request.NoteRequest;
+import com.iseem_backend.application.DTO.response.BulkNoteReportResponse;
 import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.DTO.response.ClassementResponse;
 import com.iseem_backend.application.DTO.response.NoteResponse;
+import com.iseem_backend.application.DTO.response.StatistiquesModuleResponse;
+import com.iseem_backend.application.enums.Niveau;
 import com.iseem_backend.application.enums.TypeNote;
 import com.iseem_backend.application.service.NoteService;
+import com.iseem_backend.application.utils.Progression;
 import com.iseem_backend.application.utils.handler.GlobalResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +20,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,18 +33,18 @@ public class NoteController {
 
     private final NoteService noteService;
 
-    @Operation(summary = "Ajouter une note", description = "Ajouter une note pour un étudiant dans un module")
+    @Operation(summary = "Ajouter une note", description = "Ajouter ou remplacer la note d'un étudiant dans un module")
     @PostMapping
     public ResponseEntity<?> ajouterNote(@RequestBody NoteRequest request) {
         NoteResponse response = noteService.ajouterNote(request, request.getEnseignantId());
-        return GlobalResponseHandler.success(response, "Note ajoutée avec succès");
+        return GlobalResponseHandler.success(response, "Note enregistrée avec succès");
     }
 
     @Operation(summary = "Ajouter des notes en masse", description = "Ajouter plusieurs notes en une seule requête")
     @PostMapping("/bulk")
     public ResponseEntity<?> ajouterNotesEnMasse(@RequestBody BulkNoteRequest request) {
-        List<NoteResponse> responses = noteService.ajouterNotesEnMasse(request, request.getEnseignantId());
-        return GlobalResponseHandler.success(responses, "Notes ajoutées en masse");
+        BulkNoteReportResponse rapport = noteService.ajouterNotesEnMasse(request, request.getEnseignantId());
+        return GlobalResponseHandler.success(rapport, "Notes ajoutées en masse");
     }
 
     @Operation(summary = "Modifier une note", description = "Modifier une note existante")
@@ -73,6 +79,15 @@ public class NoteController {
         return GlobalResponseHandler.success(responses, "Notes du module récupérées");
     }
 
+    @Operation(summary = "Statistiques d'un module", description = "Moyenne, médiane, quartiles, écart-type, taux de réussite et histogramme des notes d'un module")
+    @GetMapping("/module/{moduleId}/statistiques")
+    public ResponseEntity<?> getStatistiquesModule(@Parameter(description = "ID du module") @PathVariable UUID moduleId,
+                                                   @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
+                                                   @Parameter(description = "Type d'évaluation (toutes si absent)") @RequestParam(required = false) TypeNote typeNote) {
+        StatistiquesModuleResponse response = noteService.obtenirStatistiquesModule(moduleId, anneeScolaire, typeNote);
+        return GlobalResponseHandler.success(response, "Statistiques du module récupérées");
+    }
+
     @Operation(summary = "Toutes les notes d'un enseignant", description = "Récupérer toutes les notes saisies par un enseignant")
     @GetMapping("/enseignant/{enseignantId}")
     public ResponseEntity<?> getNotesEnseignant(@Parameter(description = "ID de l'enseignant") @PathVariable UUID enseignantId,
@@ -90,12 +105,22 @@ public class NoteController {
         return GlobalResponseHandler.success(response, "Bulletin officiel généré");
     }
 
+    @Operation(summary = "Classement d'une promotion", description = "Moyennes générales et rangs des étudiants d'un niveau, éventuellement limités à un groupe")
+    @GetMapping("/classement")
+    public ResponseEntity<?> getClassement(@Parameter(description = "Niveau") @RequestParam Niveau niveau,
+                                           @Parameter(description = "Groupe") @RequestParam(required = false) String groupe,
+                                           @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
+                                           @Parameter(description = "Type d'évaluation") @RequestParam TypeNote typeEvaluation) {
+        List<ClassementResponse> classement = noteService.obtenirClassement(niveau, groupe, anneeScolaire, typeEvaluation);
+        return GlobalResponseHandler.success(classement, "Classement de la promotion récupéré");
+    }
+
     @Operation(summary = "Exporter bulletin officiel PDF", description = "Exporter le bulletin officiel au format PDF")
     @GetMapping("/bulletin/{studentId}/pdf")
-    public ResponseEntity<byte[]> exportBulletinOfficielPDF(@Parameter(description = "ID de l'étudiant") @PathVariable UUID studentId,
-                                                            @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
-                                                            @Parameter(description = "Type d'évaluation") @RequestParam TypeNote typeEvaluation) {
-        byte[] pdfContent = noteService.exporterBulletinPDF(studentId, anneeScolaire, typeEvaluation);
+    public ResponseEntity<StreamingResponseBody> exportBulletinOfficielPDF(@Parameter(description = "ID de l'étudiant") @PathVariable UUID studentId,
+                                                                           @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
+                                                                           @Parameter(description = "Type d'évaluation") @RequestParam TypeNote typeEvaluation) {
+        StreamingResponseBody body = out -> noteService.exporterBulletinPDF(studentId, anneeScolaire, typeEvaluation, out);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
@@ -103,6 +128,26 @@ public class NoteController {
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(pdfContent);
+                .body(body);
+    }
+
+    @Operation(summary = "Bulletins d'une promotion", description = "Générer les bulletins PDF de toute une promotion, en archive ZIP ou en un seul PDF")
+    @GetMapping("/bulletins/promotion")
+    public ResponseEntity<StreamingResponseBody> exportBulletinsPromotion(@Parameter(description = "Niveau") @RequestParam Niveau niveau,
+                                                                          @Parameter(description = "Groupe") @RequestParam(required = false) String groupe,
+                                                                          @Parameter(description = "Année scolaire") @RequestParam String anneeScolaire,
+                                                                          @Parameter(description = "Type d'évaluation") @RequestParam TypeNote typeEvaluation,
+                                                                          @Parameter(description = "Format: zip ou pdf") @RequestParam(defaultValue = "zip") String format) {
+        boolean fusionner = "pdf".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> noteService.exporterBulletinsPromotion(niveau, groupe, anneeScolaire, typeEvaluation, fusionner, out, Progression.IGNOREE);
+
+        String nom = "bulletins_" + niveau.name() + (groupe != null ? "_" + groupe : "") + "_" + anneeScolaire;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(fusionner ? MediaType.APPLICATION_PDF : MediaType.parseMediaType("application/zip"));
+        headers.setContentDispositionFormData("attachment", nom + (fusionner ? ".pdf" : ".zip"));
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.iseem_backend.application.controller;
 
 import com.iseem_backend.application.DTO.request.StudentRequest;
+import com.iseem_backend.application.DTO.response.EtudiantResumeResponse;
 import com.iseem_backend.application.DTO.response.StudentResponse;
 import com.iseem_backend.application.model.Diplome;
 import com.iseem_backend.application.service.StudentService;
+import com.iseem_backend.application.utils.Progression;
 import com.iseem_backend.application.utils.handler.GlobalResponseHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/admin/students")
@@ -84,9 +87,10 @@ public class StudentController {
 
     @Operation(summary = "Importer des étudiants depuis un fichier Excel")
     @PostMapping("/import")
-    public ResponseEntity<?> importerEtudiants(@RequestParam("file") MultipartFile fichierExcel) {
+    public ResponseEntity<?> importerEtudiants(@RequestParam("file") MultipartFile fichierExcel,
+                                               @RequestParam(value = "importId", required = false) String importId) {
         try {
-            Map<String, Object> result = studentService.importerEtudiants(fichierExcel);
+            Map<String, Object> result = studentService.importerEtudiants(fichierExcel, importId);
             return GlobalResponseHandler.success(result, "Import des étudiants terminé");
         } catch (Exception e) {
             log.error("Erreur lors de l'import des étudiants depuis le fichier Excel", e);
@@ -97,21 +101,22 @@ public class StudentController {
 
     @Operation(summary = "Exporter les étudiants en fichier Excel")
     @GetMapping("/all/export")
-    public ResponseEntity<byte[]> exporterEtudiants() {
-        byte[] excelData = studentService.exporterEtudiants();
+    public ResponseEntity<StreamingResponseBody> exporterEtudiants() {
+        StreamingResponseBody body = out -> studentService.exporterEtudiants(out, Progression.IGNOREE);
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=etudiants.xlsx")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelData);
+                .body(body);
     }
 
     @Operation(summary = "Générer les cartes scolaires des étudiants en PDF")
     @PostMapping("/cards")
-    public ResponseEntity<byte[]> genererCartesScolaires(@RequestBody List<UUID> idsEtudiants) {
-        byte[] pdfData = studentService.genererCartesScolaires(idsEtudiants);
+    public ResponseEntity<StreamingResponseBody> genererCartesScolaires(@RequestBody List<UUID> idsEtudiants) {
+        StreamingResponseBody body = out -> studentService.genererCartesScolaires(idsEtudiants, out, Progression.IGNOREE);
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=cartes_etudiants.pdf")
-                .body(pdfData);
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(body);
     }
 
     @Operation(summary = "Ajouter un diplôme à un étudiant")
@@ -144,10 +149,23 @@ public class StudentController {
         return GlobalResponseHandler.success(etudiants, "Étudiants récupérés avec succès");
     }
 
+    @Operation(summary = "Rechercher des étudiants par nom, prénom ou matricule",
+            description = "Pagination par curseur : renvoyer curseurSuivant pour obtenir la page suivante")
+    @GetMapping("/recherche")
+    public ResponseEntity<?> rechercherEtudiantsParCurseur(@RequestParam(required = false) String q,
+                                                           @RequestParam(required = false) String curseur,
+                                                           @RequestParam(defaultValue = "20") int taille) {
+        return GlobalResponseHandler.success(studentService.rechercherEtudiants(q, curseur, taille),
+                "Étudiants récupérés avec succès");
+    }
+
     @Operation(summary = "Récupérer la liste des étudiants pour un enseignant")
     @GetMapping("/teacher/{teacherId}")
-    public ResponseEntity<?> obtenirEtudiantsPourEnseignant(@PathVariable UUID teacherId) {
-        List<StudentResponse> students = studentService.getStudentsForTeacher(teacherId);
+    public ResponseEntity<?> obtenirEtudiantsPourEnseignant(@PathVariable UUID teacherId,
+                                                            @RequestParam(required = false) UUID moduleId,
+                                                            @RequestParam(required = false) String groupe,
+                                                            Pageable pageable) {
+        Page<EtudiantResumeResponse> students = studentService.getStudentsForTeacher(teacherId, moduleId, groupe, pageable);
         return GlobalResponseHandler.success(students, "Étudiants de l'enseignant récupérés avec succès");
     }
 }
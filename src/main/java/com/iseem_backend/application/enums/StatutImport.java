@@ -0,0 +1,7 @@
+package com.iseem_backend.application.enums;
+
+public enum StatutImport {
+    EN_COURS,
+    TERMINE,
+    ECHEC
+}
@@ -0,0 +1,8 @@
+package com.iseem_backend.application.enums;
+
+public enum StatutJob {
+    EN_ATTENTE,
+    EN_COURS,
+    TERMINE,
+    ECHEC
+}
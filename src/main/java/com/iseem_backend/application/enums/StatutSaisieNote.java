@@ -0,0 +1,5 @@
+package com.iseem_backend.application.enums;
+
+public enum StatutSaisieNote {
+    INSEREE, MISE_A_JOUR, REJETEE
+}
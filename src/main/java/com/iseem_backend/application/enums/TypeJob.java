@@ -0,0 +1,12 @@
+package com.iseem_backend.application.enums;
+
+public enum TypeJob {
+    EXPORT_ETUDIANTS,
+    EXPORT_ENSEIGNANTS,
+    EXPORT_DIPLOMES,
+    EXPORT_FORMATIONS,
+    CARTES_ETUDIANTS,
+    BULLETINS_PROMOTION,
+    DIPLOME_PDF,
+    PLANCHE_QR_CODES
+}
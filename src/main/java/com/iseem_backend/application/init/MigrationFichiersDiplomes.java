@@ -0,0 +1,63 @@
+package com.iseem_backend.application.init;
+
+import com.iseem_backend.application.service.StockageFichierService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class MigrationFichiersDiplomes implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockageFichierService stockageFichierService;
+
+    public MigrationFichiersDiplomes(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     StockageFichierService stockageFichierService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockageFichierService = stockageFichierService;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id_diplome FROM diplome WHERE fichier_diplome IS NOT NULL AND fichier_cle IS NULL", UUID.class);
+        for (UUID id : ids) {
+            transactionTemplate.executeWithoutResult(status -> migrer(id));
+        }
+        if (!ids.isEmpty()) {
+            log.info("{} fichiers de diplômes déplacés vers le stockage de fichiers", ids.size());
+        }
+    }
+
+    private void migrer(UUID id) {
+        jdbcTemplate.query("SELECT fichier_diplome FROM diplome WHERE id_diplome = ? FOR UPDATE", (RowCallbackHandler) rs -> {
+            long oid = rs.getLong(1);
+            Blob blob = rs.getBlob(1);
+            String cle;
+            try (InputStream contenu = blob.getBinaryStream()) {
+                cle = stockageFichierService.stocker(contenu);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Migration impossible du fichier du diplôme " + id, e);
+            }
+            jdbcTemplate.update("UPDATE diplome SET fichier_cle = ?, fichier_nom = ?, fichier_type = ?, fichier_taille = ?, " +
+                            "fichier_diplome = NULL WHERE id_diplome = ?",
+                    cle, "diplome_" + id + ".pdf", MediaType.APPLICATION_PDF_VALUE, blob.length(), id);
+            jdbcTemplate.queryForObject("SELECT lo_unlink(?)", Integer.class, oid);
+        }, id);
+    }
+}
@@ -7,10 +7,12 @@ import com.iseem_backend.application.model.Enseignant;
 import com.iseem_backend.application.model.Student;
 import com.iseem_backend.application.repository.EnseignantRepository;
 import com.iseem_backend.application.repository.StudentRepository;
+import com.iseem_backend.application.repository.projection.DiplomeResumeProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -65,8 +67,33 @@ public class DiplomeMapper {
                 .professeursIds(diplome.getProfesseurs() != null ?
                         diplome.getProfesseurs().stream().map(Enseignant::getEnseignantId).collect(Collectors.toSet()) : null)
                 .studentId(diplome.getStudent() != null ? diplome.getStudent().getUserId() : null)
+                .fichierNom(diplome.getFichierNom())
+                .fichierTaille(diplome.getFichierTaille())
                 .build();
     }
+
+    public DiplomeResponse toDto(DiplomeResumeProjection diplome, Set<UUID> professeursIds) {
+        return DiplomeResponse.builder()
+                .idDiplome(diplome.getIdDiplome())
+                .typeDiplome(diplome.getTypeDiplome())
+                .customDiplomeLabel(diplome.getCustomDiplomeLabel())
+                .niveau(diplome.getNiveau())
+                .nomDiplome(diplome.getNomDiplome())
+                .anneeObtention(diplome.getAnneeObtention())
+                .estValide(diplome.getEstValide())
+                .mention(diplome.getMention())
+                .dateDelivrance(diplome.getDateDelivrance())
+                .signatureAdminId(diplome.getSignatureAdminId())
+                .qrCodeUrl(diplome.getQrCodeUrl())
+                .commentaire(diplome.getCommentaire())
+                .modeRemise(diplome.getModeRemise())
+                .professeursIds(professeursIds)
+                .studentId(diplome.getStudentId())
+                .fichierNom(diplome.getFichierNom())
+                .fichierTaille(diplome.getFichierTaille())
+                .build();
+    }
+
     public void updateEntityFromRequest(DiplomeRequest request, Diplome diplome) {
         if (request.getTypeDiplome() != null) diplome.setTypeDiplome(request.getTypeDiplome());
         if (request.getCustomDiplomeLabel() != null) diplome.setCustomDiplomeLabel(request.getCustomDiplomeLabel());
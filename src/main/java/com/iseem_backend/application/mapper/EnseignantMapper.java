@@ -10,6 +10,7 @@ import com.iseem_backend.application.model.Enseignant;
 import com.iseem_backend.application.model.Module;
 import com.iseem_backend.application.model.Diplome;
 import com.iseem_backend.application.model.User;
+import com.iseem_backend.application.repository.projection.EnseignantResumeProjection;
 import com.iseem_backend.application.utils.TimeSlot;
 import org.springframework.stereotype.Component;
 
@@ -99,4 +100,28 @@ public class EnseignantMapper {
 
         return response;
     }
+
+    public EnseignantResponse toDto(EnseignantResumeProjection enseignant, Set<UUID> moduleIds, Set<UUID> diplomeIds,
+                                    Set<CustomFieldResponse> customFields) {
+        EnseignantResponse response = new EnseignantResponse();
+        response.setEnseignantId(enseignant.getEnseignantId());
+        response.setUserId(enseignant.getUserId());
+        response.setSpecialite(enseignant.getSpecialite());
+        response.setDateEmbauche(enseignant.getDateEmbauche());
+        response.setStatusEnseignant(enseignant.getStatusEnseignant());
+        response.setHeuresTravail(enseignant.getHeuresTravail());
+
+        if (enseignant.getJour() != null) {
+            HoraireResponse hr = new HoraireResponse();
+            hr.setJour(enseignant.getJour().name());
+            hr.setHeureDebut(enseignant.getHeureDebut().toString());
+            hr.setHeureFin(enseignant.getHeureFin().toString());
+            response.setHoraire(hr);
+        }
+
+        response.setCustomFields(customFields);
+        response.setModuleIds(moduleIds);
+        response.setDiplomeIds(diplomeIds);
+        return response;
+    }
 }
\ No newline at end of file
@@ -4,7 +4,10 @@ import com.iseem_backend.application.DTO.request.FormationRequest;
 import com.iseem_backend.application.DTO.response.FormationResponse;
 import com.iseem_backend.application.model.Enseignant;
 import com.iseem_backend.application.model.Formation;
+import com.iseem_backend.application.repository.projection.FormationResumeProjection;
 import org.springframework.stereotype.Component;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -47,6 +50,23 @@ public class FormationMapper {
                 .build();
     }
 
+    public FormationResponse toDto(FormationResumeProjection formation, Set<UUID> enseignantsIds) {
+        return FormationResponse.builder()
+                .idFormation(formation.getIdFormation())
+                .nom(formation.getNom())
+                .duree(formation.getDuree())
+                .cout(formation.getCout())
+                .description(formation.getDescription())
+                .anneeFormation(formation.getAnneeFormation())
+                .estActive(formation.getEstActive())
+                .modeFormation(formation.getModeFormation())
+                .niveauAcces(formation.getNiveauAcces())
+                .capaciteMax(formation.getCapaciteMax())
+                .enseignantsIds(enseignantsIds)
+                .emploiDuTempsId(formation.getEmploiDuTempsId())
+                .build();
+    }
+
     public void updateEntityFromRequest(FormationRequest request, Formation formation) {
         if (request == null || formation == null) return;
 
@@ -6,6 +6,9 @@ import com.iseem_backend.application.enums.TypeDiplome;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.Set;
@@ -13,6 +16,12 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "diplome")
+@NamedEntityGraph(name = Diplome.GRAPHE_DETAIL, attributeNodes = {
+        @NamedAttributeNode("signatureAdmin"),
+        @NamedAttributeNode("professeurs")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "diplomes")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,6 +29,8 @@ import java.util.UUID;
 @SuperBuilder
 public class Diplome {
 
+    public static final String GRAPHE_DETAIL = "Diplome.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID idDiplome;
@@ -33,6 +44,8 @@ public class Diplome {
     private String niveau;
 
     @OneToMany(mappedBy = "diplome", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "diplomes-modules")
+    @BatchSize(size = 32)
     private Set<Module> modules;
 
     private String nomDiplome;
@@ -52,8 +65,14 @@ public class Diplome {
 
     private String qrCodeUrl;
 
-    @Lob
-    private byte[] fichierDiplome;
+    @Column(length = 64)
+    private String fichierCle;
+
+    private String fichierNom;
+
+    private String fichierType;
+
+    private Long fichierTaille;
 
     @Column(columnDefinition = "TEXT")
     private String commentaire;
@@ -67,6 +86,8 @@ public class Diplome {
             joinColumns = @JoinColumn(name = "id_diplome"),
             inverseJoinColumns = @JoinColumn(name = "id_enseignant")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "diplomes-professeurs")
+    @BatchSize(size = 32)
     private Set<Enseignant> professeurs;
 
 
@@ -5,6 +5,9 @@ import com.iseem_backend.application.utils.TimeSlot;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.Duration;
@@ -17,11 +20,26 @@ import java.util.UUID;
 @Getter
 @Setter
 @Table(name = "enseignants")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Enseignant.GRAPHE_RESUME, attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("customFields")
+        }),
+        @NamedEntityGraph(name = Enseignant.GRAPHE_DETAIL, attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("modules")
+        })
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "enseignants")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Enseignant {
 
+    public static final String GRAPHE_RESUME = "Enseignant.resume";
+    public static final String GRAPHE_DETAIL = "Enseignant.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID enseignantId;
@@ -50,13 +68,18 @@ public class Enseignant {
     private TimeSlot horaire;
 
     @OneToMany(mappedBy = "enseignant", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "enseignants-modules")
+    @BatchSize(size = 32)
     private Set<Module> modules;
 
     @ManyToMany(mappedBy = "professeurs", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "enseignants-diplomes")
+    @BatchSize(size = 32)
     private Set<Diplome> diplomes;
 
 
     @OneToMany(mappedBy = "enseignant", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 32)
     private Set<CustomField> customFields = new HashSet<>();
 
 }
\ No newline at end of file
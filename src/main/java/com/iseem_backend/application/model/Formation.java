@@ -3,6 +3,9 @@ package com.iseem_backend.application.model;
 import com.iseem_backend.application.enums.ModeFormation;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.util.Set;
 import java.util.UUID;
@@ -10,6 +13,12 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "formations")
+@NamedEntityGraph(name = Formation.GRAPHE_DETAIL, attributeNodes = {
+        @NamedAttributeNode("enseignants"),
+        @NamedAttributeNode("emploiDuTemps")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "formations")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +26,8 @@ import java.util.stream.Collectors;
 @Builder
 public class Formation {
 
+    public static final String GRAPHE_DETAIL = "Formation.detail";
+
     @Id
     @GeneratedValue
     private UUID idFormation;
@@ -33,6 +44,8 @@ public class Formation {
             joinColumns = @JoinColumn(name = "formation_id"),
             inverseJoinColumns = @JoinColumn(name = "enseignant_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "formations-enseignants")
+    @BatchSize(size = 32)
     private Set<Enseignant> enseignants;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -53,18 +66,10 @@ public class Formation {
 
     private Integer capaciteMax;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-            name = "formation_enseignants",
-            joinColumns = @JoinColumn(name = "formation_id"),
-            inverseJoinColumns = @JoinColumn(name = "enseignant_id")
-    )
-    private Set<Enseignant> professeurs;
-
 
     public String getNomProfesseurs() {
-        if (professeurs == null || professeurs.isEmpty()) return "";
-        return professeurs.stream()
+        if (enseignants == null || enseignants.isEmpty()) return "";
+        return enseignants.stream()
                 .map(p -> p.getUser() != null ? p.getUser().getNom() : "Unknown")
                 .collect(Collectors.joining(", "));
     }
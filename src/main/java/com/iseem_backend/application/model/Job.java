@@ -0,0 +1,57 @@
+package com.iseem_backend.application.model;
+
+import com.iseem_backend.application.enums.StatutJob;
+import com.iseem_backend.application.enums.TypeJob;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID idJob;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TypeJob type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatutJob statut;
+
+    private int progression;
+
+    @Column(length = 1000)
+    private String message;
+
+    private String nomFichier;
+
+    private String contentType;
+
+    private String cheminFichier;
+
+    private Long taille;
+
+    private String demandePar;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dateCreation;
+
+    private LocalDateTime dateDebut;
+
+    private LocalDateTime dateFin;
+
+    @PrePersist
+    protected void onCreate() {
+        dateCreation = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,8 @@ package com.iseem_backend.application.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -10,6 +12,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "modules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "modules")
 @Getter
 @Setter
 @NoArgsConstructor
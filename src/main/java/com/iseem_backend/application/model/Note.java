@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", uniqueConstraints = @UniqueConstraint(
+        name = "uk_notes_etudiant_annee_module_type",
+        columnNames = {"student_id", "annee_scolaire", "module_id", "type_note"}))
 @Getter
 @Setter
 @NoArgsConstructor
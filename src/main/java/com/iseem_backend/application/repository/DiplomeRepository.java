@@ -2,11 +2,20 @@ package com.iseem_backend.application.repository;
 
 import com.iseem_backend.application.enums.TypeDiplome;
 import com.iseem_backend.application.model.Diplome;
+import com.iseem_backend.application.repository.projection.DiplomeEtiquetteProjection;
+import com.iseem_backend.application.repository.projection.DiplomeResumeProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -15,4 +24,32 @@ import java.util.UUID;
 public interface DiplomeRepository extends JpaRepository<Diplome, UUID> {
     List<Diplome> findByTypeDiplome(TypeDiplome typeDiplome);
 
+    boolean existsByFichierCle(String fichierCle);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:cle))", nativeQuery = true)
+    Integer verrouillerFichier(@Param("cle") String cle);
+
+    @EntityGraph(Diplome.GRAPHE_DETAIL)
+    @Query("SELECT d FROM Diplome d WHERE d.idDiplome = :id")
+    Optional<Diplome> findDetailById(@Param("id") UUID id);
+
+    @Query("SELECT d FROM Diplome d LEFT JOIN FETCH d.signatureAdmin WHERE d.idDiplome > :apres ORDER BY d.idDiplome")
+    List<Diplome> findPageApres(@Param("apres") UUID apres, Pageable pageable);
+
+    @Query("SELECT d.idDiplome AS idDiplome, d.typeDiplome AS typeDiplome, d.customDiplomeLabel AS customDiplomeLabel, " +
+            "d.niveau AS niveau, d.nomDiplome AS nomDiplome, d.anneeObtention AS anneeObtention, d.estValide AS estValide, " +
+            "d.mention AS mention, d.dateDelivrance AS dateDelivrance, sa.userId AS signatureAdminId, " +
+            "d.qrCodeUrl AS qrCodeUrl, d.commentaire AS commentaire, d.modeRemise AS modeRemise, st.userId AS studentId, " +
+            "d.fichierNom AS fichierNom, d.fichierTaille AS fichierTaille " +
+            "FROM Diplome d LEFT JOIN d.signatureAdmin sa LEFT JOIN d.student st")
+    List<DiplomeResumeProjection> findResumes();
+
+    @Query("SELECT d.idDiplome AS proprietaireId, p.enseignantId AS elementId " +
+            "FROM Diplome d JOIN d.professeurs p")
+    List<LienProjection> findProfesseurIds();
+
+    @Query("SELECT d.idDiplome AS idDiplome, d.nomDiplome AS nomDiplome, d.anneeObtention AS anneeObtention, " +
+            "u.nom AS nom, u.prenom AS prenom " +
+            "FROM Diplome d LEFT JOIN d.student st LEFT JOIN st.user u WHERE d.idDiplome IN :ids")
+    List<DiplomeEtiquetteProjection> findEtiquettesParIds(@Param("ids") Collection<UUID> ids);
 }
@@ -2,16 +2,23 @@ package com.iseem_backend.application.repository;
 
 import com.iseem_backend.application.enums.StatusEnseignant;
 import com.iseem_backend.application.model.Enseignant;
+import com.iseem_backend.application.repository.projection.ChampPersonnaliseProjection;
+import com.iseem_backend.application.repository.projection.EnseignantResumeProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -19,11 +26,36 @@ import java.util.UUID;
 @Transactional
 @Hidden
 public interface EnseignantRepository extends JpaRepository<Enseignant , UUID> {
+    @EntityGraph(Enseignant.GRAPHE_RESUME)
     List<Enseignant> findBySpecialiteContainingIgnoreCase(String specialite);
 
+    @EntityGraph(Enseignant.GRAPHE_RESUME)
     List<Enseignant> findByStatusEnseignant(StatusEnseignant status);
 
+    @EntityGraph(Enseignant.GRAPHE_DETAIL)
+    @Query("SELECT e FROM Enseignant e WHERE e.enseignantId = :id")
+    Optional<Enseignant> findDetailById(@Param("id") UUID id);
 
-    @Query("SELECT e FROM Enseignant e JOIN FETCH e.user")
-    Page<Enseignant> findAllWithUser(Pageable pageable);
+
+    @Query("SELECT e FROM Enseignant e JOIN FETCH e.user WHERE e.enseignantId > :apres ORDER BY e.enseignantId")
+    List<Enseignant> findPageApres(@Param("apres") UUID apres, Pageable pageable);
+
+    @Query(value = "SELECT e.enseignantId AS enseignantId, u.userId AS userId, e.specialite AS specialite, " +
+            "e.dateEmbauche AS dateEmbauche, e.statusEnseignant AS statusEnseignant, e.heuresTravail AS heuresTravail, " +
+            "e.horaire.day AS jour, e.horaire.startTime AS heureDebut, e.horaire.endTime AS heureFin " +
+            "FROM Enseignant e JOIN e.user u",
+            countQuery = "SELECT COUNT(e) FROM Enseignant e")
+    Page<EnseignantResumeProjection> findResumes(Pageable pageable);
+
+    @Query("SELECT m.enseignant.enseignantId AS proprietaireId, m.idModule AS elementId " +
+            "FROM Module m WHERE m.enseignant.enseignantId IN :ids")
+    List<LienProjection> findModuleIdsParEnseignant(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.enseignantId AS proprietaireId, d.idDiplome AS elementId " +
+            "FROM Diplome d JOIN d.professeurs p WHERE p.enseignantId IN :ids")
+    List<LienProjection> findDiplomeIdsParEnseignant(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT cf.enseignant.enseignantId AS proprietaireId, cf.fieldName AS fieldName, cf.fieldValue AS fieldValue " +
+            "FROM CustomField cf WHERE cf.enseignant.enseignantId IN :ids")
+    List<ChampPersonnaliseProjection> findChampsParEnseignant(@Param("ids") Collection<UUID> ids);
 }
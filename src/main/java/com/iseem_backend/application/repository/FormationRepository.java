@@ -1,15 +1,46 @@
 package com.iseem_backend.application.repository;
 
 import com.iseem_backend.application.model.Formation;
+import com.iseem_backend.application.repository.projection.FormationResumeProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 @Transactional
 @Hidden
 public interface FormationRepository extends JpaRepository<Formation, UUID> {
+
+    @EntityGraph(Formation.GRAPHE_DETAIL)
+    @Query("SELECT f FROM Formation f WHERE f.idFormation = :id")
+    Optional<Formation> findDetailById(@Param("id") UUID id);
+
+    @Query("SELECT f FROM Formation f LEFT JOIN FETCH f.emploiDuTemps WHERE f.idFormation > :apres ORDER BY f.idFormation")
+    List<Formation> findPageApres(@Param("apres") UUID apres, Pageable pageable);
+
+    @Query("SELECT DISTINCT f FROM Formation f LEFT JOIN FETCH f.enseignants e LEFT JOIN FETCH e.user WHERE f IN :formations")
+    List<Formation> chargerEnseignants(@Param("formations") Collection<Formation> formations);
+
+    @Query(value = "SELECT f.idFormation AS idFormation, f.nom AS nom, f.duree AS duree, f.cout AS cout, " +
+            "f.description AS description, f.anneeFormation AS anneeFormation, f.estActive AS estActive, " +
+            "f.modeFormation AS modeFormation, f.niveauAcces AS niveauAcces, f.capaciteMax AS capaciteMax, " +
+            "edt.id AS emploiDuTempsId FROM Formation f LEFT JOIN f.emploiDuTemps edt",
+            countQuery = "SELECT COUNT(f) FROM Formation f")
+    Page<FormationResumeProjection> findResumes(Pageable pageable);
+
+    @Query("SELECT f.idFormation AS proprietaireId, e.enseignantId AS elementId " +
+            "FROM Formation f JOIN f.enseignants e WHERE f.idFormation IN :ids")
+    List<LienProjection> findEnseignantIdsParFormation(@Param("ids") Collection<UUID> ids);
 }
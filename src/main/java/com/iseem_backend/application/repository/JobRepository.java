@@ -0,0 +1,34 @@
+package com.iseem_backend.application.repository;
+
+import com.iseem_backend.application.enums.StatutJob;
+import com.iseem_backend.application.model.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.progression = :progression WHERE j.idJob = :idJob")
+    void majProgression(@Param("idJob") UUID idJob, @Param("progression") int progression);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.statut = :statut, j.message = :message, j.dateFin = :dateFin WHERE j.statut IN :statuts")
+    int marquerInterrompus(@Param("statuts") Collection<StatutJob> statuts,
+                           @Param("statut") StatutJob statut,
+                           @Param("message") String message,
+                           @Param("dateFin") LocalDateTime dateFin);
+
+    List<Job> findByDateCreationBefore(LocalDateTime limite);
+}
@@ -2,14 +2,18 @@ package com.iseem_backend.application.repository;
 
 import com.iseem_backend.application.model.Module;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,15 +32,18 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
     @Query("SELECT m FROM Module m JOIN FETCH m.enseignant e JOIN FETCH e.user WHERE m.idModule = :id")
     Optional<Module> findByIdWithEnseignant(@Param("id") UUID id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT m FROM Module m JOIN FETCH m.enseignant e JOIN FETCH e.user")
     List<Module> findAllWithEnseignant();
 
     @Query("SELECT m FROM Module m JOIN FETCH m.enseignant e JOIN FETCH e.user")
     Page<Module> findAllWithEnseignant(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT m FROM Module m WHERE m.enseignant.enseignantId = :enseignantId")
     List<Module> findByEnseignantId(@Param("enseignantId") UUID enseignantId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT m FROM Module m WHERE m.diplome.idDiplome = :diplomeId")
     List<Module> findByDiplomeId(@Param("diplomeId") UUID diplomeId);
 
@@ -45,6 +52,11 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
     @Query("SELECT COUNT(s) FROM Module m JOIN m.students s WHERE m.idModule = :moduleId")
     long countStudentsByModule(@Param("moduleId") UUID moduleId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT m FROM Module m WHERE m.enseignant IS NULL")
     List<Module> findModulesWithoutEnseignant();
-}
\ No newline at end of file
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT m FROM Module m LEFT JOIN FETCH m.enseignant WHERE m.idModule IN :ids")
+    List<Module> findAllByIdWithEnseignant(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,21 @@
+package com.iseem_backend.application.repository;
+
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.utils.MatriceNotes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface NoteBatchRepository {
+    List<NoteEnregistree> enregistrerEnLot(List<Note> notes);
+
+    MatriceNotes chargerMatrice(String anneeScolaire);
+
+    record NoteEnregistree(UUID idNote, UUID studentId, UUID moduleId, TypeNote typeNote, String anneeScolaire,
+                           BigDecimal valeur, BigDecimal valeurPrecedente, LocalDateTime dateCreation,
+                           boolean inseree) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.iseem_backend.application.repository;
+
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.utils.MatriceNotes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class NoteBatchRepositoryImpl implements NoteBatchRepository {
+
+    private static final String INSERT_NOTE_SQL =
+            "INSERT INTO notes (id_note, student_id, module_id, type_note, valeur, annee_scolaire, " +
+                    "date_creation, date_modification, saisie_par) VALUES ";
+
+    private static final String VALEURS_NOTE_SQL = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_NOTE_SQL =
+            " ON CONFLICT (student_id, annee_scolaire, module_id, type_note) DO UPDATE SET " +
+                    "valeur = EXCLUDED.valeur, date_modification = EXCLUDED.date_modification, " +
+                    "saisie_par = EXCLUDED.saisie_par " +
+                    "RETURNING id_note, student_id, module_id, type_note, annee_scolaire, valeur, " +
+                    "(SELECT p.valeur FROM notes p WHERE p.id_note = notes.id_note) AS valeur_precedente, " +
+                    "date_creation, (xmax = 0) AS inseree";
+
+    private static final String MODULES_MATRICE_SQL = "SELECT id_module, coefficient FROM modules";
+
+    private static final String ETUDIANTS_MATRICE_SQL =
+            "SELECT s.user_id, s.niveau, s.groupe, s.matricule, u.nom, u.prenom " +
+                    "FROM students s JOIN users u ON u.user_id = s.user_id";
+
+    private static final String NOTES_MATRICE_SQL =
+            "SELECT student_id, module_id, type_note, valeur FROM notes " +
+                    "WHERE annee_scolaire = ? AND valeur IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${iseem.notes.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public List<NoteEnregistree> enregistrerEnLot(List<Note> notes) {
+        List<NoteEnregistree> resultats = new ArrayList<>(notes.size());
+        LocalDateTime maintenant = LocalDateTime.now();
+        for (int debut = 0; debut < notes.size(); debut += batchSize) {
+            List<Note> lot = notes.subList(debut, Math.min(debut + batchSize, notes.size()));
+            String sql = INSERT_NOTE_SQL + String.join(", ", Collections.nCopies(lot.size(), VALEURS_NOTE_SQL))
+                    + UPSERT_NOTE_SQL;
+            resultats.addAll(jdbcTemplate.query(sql, ps -> {
+                int i = 0;
+                for (Note note : lot) {
+                    note.setDateCreation(maintenant);
+                    note.setDateModification(maintenant);
+                    ps.setObject(++i, note.getIdNote());
+                    ps.setObject(++i, note.getStudent().getUserId());
+                    ps.setObject(++i, note.getModule().getIdModule());
+                    ps.setString(++i, note.getTypeNote().name());
+                    ps.setBigDecimal(++i, note.getValeur());
+                    ps.setString(++i, note.getAnneeScolaire());
+                    ps.setObject(++i, maintenant);
+                    ps.setObject(++i, maintenant);
+                    if (note.getSaisiePar() != null) {
+                        ps.setObject(++i, note.getSaisiePar().getUserId());
+                    } else {
+                        ps.setNull(++i, Types.OTHER);
+                    }
+                }
+            }, (rs, n) -> new NoteEnregistree(
+                    rs.getObject("id_note", UUID.class),
+                    rs.getObject("student_id", UUID.class),
+                    rs.getObject("module_id", UUID.class),
+                    TypeNote.valueOf(rs.getString("type_note")),
+                    rs.getString("annee_scolaire"),
+                    rs.getBigDecimal("valeur"),
+                    rs.getBigDecimal("valeur_precedente"),
+                    rs.getObject("date_creation", LocalDateTime.class),
+                    rs.getBoolean("inseree"))));
+        }
+        return resultats;
+    }
+
+    @Override
+    public MatriceNotes chargerMatrice(String anneeScolaire) {
+        MatriceNotes matrice = new MatriceNotes(anneeScolaire);
+        jdbcTemplate.query(MODULES_MATRICE_SQL, (RowCallbackHandler) rs ->
+                matrice.definirModule(rs.getObject(1, UUID.class), rs.getBigDecimal(2)));
+        jdbcTemplate.query(ETUDIANTS_MATRICE_SQL, (RowCallbackHandler) rs -> {
+            String niveau = rs.getString(2);
+            matrice.definirEtudiant(rs.getObject(1, UUID.class), niveau != null ? Niveau.valueOf(niveau) : null,
+                    rs.getString(3), rs.getString(4), rs.getString(5), rs.getString(6));
+        });
+        jdbcTemplate.query(connexion -> {
+            PreparedStatement ps = connexion.prepareStatement(NOTES_MATRICE_SQL);
+            ps.setFetchSize(batchSize);
+            ps.setString(1, anneeScolaire);
+            return ps;
+        }, (RowCallbackHandler) rs -> matrice.definirNote(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class),
+                TypeNote.valueOf(rs.getString(3)), rs.getBigDecimal(4)));
+        return matrice;
+    }
+}
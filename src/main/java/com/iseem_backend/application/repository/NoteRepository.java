@@ -1,7 +1,10 @@
 package com.iseem_backend.application.repository;
 
+import com.iseem_backend.application.enums.Niveau;
 import com.iseem_backend.application.enums.TypeNote;
 import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.repository.projection.EffectifNoteProjection;
+import com.iseem_backend.application.repository.projection.NoteResumeProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +15,25 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface NoteRepository extends JpaRepository<Note, UUID> {
+public interface NoteRepository extends JpaRepository<Note, UUID>, NoteBatchRepository {
+
+    String SELECT_RESUME = "SELECT n.idNote AS idNote, s.userId AS studentId, u.nom AS studentNom, " +
+            "u.prenom AS studentPrenom, s.matricule AS matricule, m.idModule AS moduleId, m.nom AS moduleNom, " +
+            "n.typeNote AS typeNote, n.valeur AS valeur, n.anneeScolaire AS anneeScolaire, " +
+            "n.dateCreation AS dateCreation, n.dateModification AS dateModification, sp.email AS saisiePar " +
+            "FROM Note n JOIN n.student s JOIN s.user u JOIN n.module m LEFT JOIN n.saisiePar sp ";
+
+    @Query(SELECT_RESUME + "WHERE m.idModule = :moduleId AND n.anneeScolaire = :anneeScolaire")
+    List<NoteResumeProjection> findResumesByModule(@Param("moduleId") UUID moduleId,
+                                                   @Param("anneeScolaire") String anneeScolaire);
+
+    @Query(SELECT_RESUME + "WHERE s.userId = :studentId AND n.anneeScolaire = :anneeScolaire")
+    List<NoteResumeProjection> findResumesByStudent(@Param("studentId") UUID studentId,
+                                                    @Param("anneeScolaire") String anneeScolaire);
+
+    @Query(SELECT_RESUME + "WHERE m.enseignant.enseignantId = :enseignantId AND n.anneeScolaire = :anneeScolaire")
+    List<NoteResumeProjection> findResumesByEnseignant(@Param("enseignantId") UUID enseignantId,
+                                                       @Param("anneeScolaire") String anneeScolaire);
 
     @Query("SELECT n FROM Note n WHERE n.student.userId = :studentId AND n.anneeScolaire = :anneeScolaire")
     List<Note> findByStudentAndAnneeScolaire(@Param("studentId") UUID studentId, @Param("anneeScolaire") String anneeScolaire);
@@ -26,24 +47,27 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                                                          @Param("typeNote") TypeNote typeNote,
                                                          @Param("anneeScolaire") String anneeScolaire);
 
-    @Query("SELECT n FROM Note n JOIN FETCH n.student s JOIN FETCH n.module m " +
-            "WHERE m.enseignant.enseignantId = :enseignantId AND n.anneeScolaire = :anneeScolaire")
-    List<Note> findByEnseignantAndAnneeScolaire(@Param("enseignantId") UUID enseignantId,
-                                                @Param("anneeScolaire") String anneeScolaire);
-
     @Query("SELECT n FROM Note n JOIN FETCH n.student s JOIN FETCH n.module m " +
             "WHERE n.student.userId = :studentId AND n.anneeScolaire = :anneeScolaire")
     List<Note> findByStudentWithDetails(@Param("studentId") UUID studentId,
                                         @Param("anneeScolaire") String anneeScolaire);
 
     @Query("SELECT n FROM Note n JOIN FETCH n.student s JOIN FETCH n.module m " +
-            "WHERE m.idModule = :moduleId AND n.anneeScolaire = :anneeScolaire")
-    List<Note> findByModuleWithDetails(@Param("moduleId") UUID moduleId,
-                                       @Param("anneeScolaire") String anneeScolaire);
+            "LEFT JOIN FETCH m.enseignant e LEFT JOIN FETCH e.user " +
+            "WHERE s.niveau = :niveau AND (:groupe IS NULL OR s.groupe = :groupe) AND n.anneeScolaire = :anneeScolaire")
+    List<Note> findByCohorteWithDetails(@Param("niveau") Niveau niveau,
+                                        @Param("groupe") String groupe,
+                                        @Param("anneeScolaire") String anneeScolaire);
 
     @Query("DELETE FROM Note n WHERE n.student.userId = :studentId AND n.module.idModule = :moduleId AND n.typeNote = :typeNote AND n.anneeScolaire = :anneeScolaire")
     void deleteByStudentAndModuleAndTypeAndAnnee(@Param("studentId") UUID studentId,
                                                  @Param("moduleId") UUID moduleId,
                                                  @Param("typeNote") TypeNote typeNote,
                                                  @Param("anneeScolaire") String anneeScolaire);
-}
\ No newline at end of file
+
+    @Query("SELECT n.typeNote AS typeNote, n.valeur AS valeur, COUNT(n) AS effectif FROM Note n " +
+            "WHERE n.module.idModule = :moduleId AND n.anneeScolaire = :anneeScolaire AND n.valeur IS NOT NULL " +
+            "GROUP BY n.typeNote, n.valeur")
+    List<EffectifNoteProjection> compterParValeur(@Param("moduleId") UUID moduleId,
+                                                  @Param("anneeScolaire") String anneeScolaire);
+}
@@ -1,14 +1,21 @@
 package com.iseem_backend.application.repository;
 
+import com.iseem_backend.application.enums.Niveau;
 import com.iseem_backend.application.model.Student;
+import com.iseem_backend.application.repository.projection.EtudiantNiveauProjection;
+import com.iseem_backend.application.repository.projection.EtudiantResumeProjection;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -19,6 +26,13 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
 
     boolean existsByMatricule(String matricule);
 
+    @Query("SELECT s.matricule FROM Student s WHERE s.matricule IN :matricules")
+    Set<String> findMatriculesExistants(@Param("matricules") Collection<String> matricules);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.user u WHERE s.niveau = :niveau " +
+            "AND (:groupe IS NULL OR s.groupe = :groupe) ORDER BY u.nom, u.prenom")
+    List<Student> findCohorte(@Param("niveau") Niveau niveau, @Param("groupe") String groupe);
+
     @Query("SELECT s FROM Student s JOIN s.user u WHERE " +
             "LOWER(u.nom) LIKE LOWER(CONCAT('%', :nom, '%')) AND " +
             "LOWER(u.prenom) LIKE LOWER(CONCAT('%', :prenom, '%')) AND " +
@@ -27,4 +41,45 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
             @Param("nom") String nom,
             @Param("prenom") String prenom,
             @Param("matricule") String matricule);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT s.user_id AS userId, s.matricule AS matricule, u.nom AS nom, u.prenom AS prenom, " +
+            "u.email AS email, s.niveau AS niveau, s.groupe AS groupe " +
+            "FROM students s JOIN users u ON u.user_id = s.user_id " +
+            "WHERE (u.nom ILIKE :motif OR u.prenom ILIKE :motif OR s.matricule ILIKE :motif) " +
+            "AND (CAST(:apresNom AS varchar) IS NULL OR (u.nom, u.prenom, s.user_id) > " +
+            "(CAST(:apresNom AS varchar), CAST(:apresPrenom AS varchar), CAST(:apresId AS uuid))) " +
+            "ORDER BY u.nom, u.prenom, s.user_id LIMIT :limite", nativeQuery = true)
+    List<EtudiantResumeProjection> rechercherApres(@Param("motif") String motif,
+                                                      @Param("apresNom") String apresNom,
+                                                      @Param("apresPrenom") String apresPrenom,
+                                                      @Param("apresId") UUID apresId,
+                                                      @Param("limite") int limite);
+
+    @Query(value = "SELECT s.user_id AS userId, s.matricule AS matricule, u.nom AS nom, u.prenom AS prenom, " +
+            "u.email AS email, s.niveau AS niveau, s.groupe AS groupe " +
+            "FROM students s JOIN users u ON u.user_id = s.user_id " +
+            "WHERE EXISTS (SELECT 1 FROM student_module sm JOIN modules m ON m.id_module = sm.module_id " +
+            "WHERE sm.student_id = s.user_id AND m.id_enseignant = :enseignantId " +
+            "AND (CAST(:moduleId AS uuid) IS NULL OR m.id_module = CAST(:moduleId AS uuid))) " +
+            "AND (CAST(:groupe AS varchar) IS NULL OR s.groupe = CAST(:groupe AS varchar)) " +
+            "ORDER BY u.nom, u.prenom, s.user_id",
+            countQuery = "SELECT COUNT(*) FROM students s " +
+                    "WHERE EXISTS (SELECT 1 FROM student_module sm JOIN modules m ON m.id_module = sm.module_id " +
+                    "WHERE sm.student_id = s.user_id AND m.id_enseignant = :enseignantId " +
+                    "AND (CAST(:moduleId AS uuid) IS NULL OR m.id_module = CAST(:moduleId AS uuid))) " +
+                    "AND (CAST(:groupe AS varchar) IS NULL OR s.groupe = CAST(:groupe AS varchar))",
+            nativeQuery = true)
+    Page<EtudiantResumeProjection> findRosterEnseignant(@Param("enseignantId") UUID enseignantId,
+                                                         @Param("moduleId") UUID moduleId,
+                                                         @Param("groupe") String groupe,
+                                                         Pageable pageable);
+
+    @Query("SELECT s.userId AS userId, s.niveau AS niveau FROM Student s WHERE s.userId IN :ids")
+    List<EtudiantNiveauProjection> findNiveauxParIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.userId > :apres ORDER BY s.userId")
+    List<Student> findPageApres(@Param("apres") UUID apres, Pageable pageable);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.user u WHERE s.userId IN :ids")
+    List<Student> findAvecUserParIds(@Param("ids") Collection<UUID> ids);
+}
@@ -1,11 +1,15 @@
 package com.iseem_backend.application.repository;
 
+import com.iseem_backend.application.DTO.response.UserResponse;
 import com.iseem_backend.application.enums.Role;
 import com.iseem_backend.application.model.User;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -20,4 +24,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     List<User> findByNomAndPrenomIgnoreCase(String nom, String prenom);
     long countByRole(Role role);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findEmailsExistants(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new com.iseem_backend.application.DTO.response.UserResponse(" +
+            "u.userId, u.email, u.role, u.nom, u.prenom, u.telephone, u.image) FROM User u WHERE u.role = :role")
+    List<UserResponse> findResumesByRole(@Param("role") Role role);
 }
@@ -0,0 +1,9 @@
+package com.iseem_backend.application.repository.projection;
+
+import java.util.UUID;
+
+public interface ChampPersonnaliseProjection {
+    UUID getProprietaireId();
+    String getFieldName();
+    String getFieldValue();
+}
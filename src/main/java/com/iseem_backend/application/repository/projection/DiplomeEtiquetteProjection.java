@@ -0,0 +1,11 @@
+package com.iseem_backend.application.repository.projection;
+
+import java.util.UUID;
+
+public interface DiplomeEtiquetteProjection {
+    UUID getIdDiplome();
+    String getNomDiplome();
+    Integer getAnneeObtention();
+    String getNom();
+    String getPrenom();
+}
@@ -0,0 +1,27 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.Mention;
+import com.iseem_backend.application.enums.ModeRemise;
+import com.iseem_backend.application.enums.TypeDiplome;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DiplomeResumeProjection {
+    UUID getIdDiplome();
+    TypeDiplome getTypeDiplome();
+    String getCustomDiplomeLabel();
+    String getNiveau();
+    String getNomDiplome();
+    Integer getAnneeObtention();
+    boolean getEstValide();
+    Mention getMention();
+    LocalDate getDateDelivrance();
+    UUID getSignatureAdminId();
+    String getQrCodeUrl();
+    String getCommentaire();
+    ModeRemise getModeRemise();
+    UUID getStudentId();
+    String getFichierNom();
+    Long getFichierTaille();
+}
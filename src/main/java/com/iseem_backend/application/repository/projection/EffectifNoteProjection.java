@@ -0,0 +1,11 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.TypeNote;
+
+import java.math.BigDecimal;
+
+public interface EffectifNoteProjection {
+    TypeNote getTypeNote();
+    BigDecimal getValeur();
+    long getEffectif();
+}
@@ -0,0 +1,21 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.StatusEnseignant;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public interface EnseignantResumeProjection {
+    UUID getEnseignantId();
+    UUID getUserId();
+    String getSpecialite();
+    LocalDate getDateEmbauche();
+    StatusEnseignant getStatusEnseignant();
+    Duration getHeuresTravail();
+    DayOfWeek getJour();
+    LocalTime getHeureDebut();
+    LocalTime getHeureFin();
+}
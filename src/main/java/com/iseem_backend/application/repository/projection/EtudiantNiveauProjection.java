@@ -0,0 +1,10 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.Niveau;
+
+import java.util.UUID;
+
+public interface EtudiantNiveauProjection {
+    UUID getUserId();
+    Niveau getNiveau();
+}
@@ -0,0 +1,13 @@
+package com.iseem_backend.application.repository.projection;
+
+import java.util.UUID;
+
+public interface EtudiantResumeProjection {
+    UUID getUserId();
+    String getMatricule();
+    String getNom();
+    String getPrenom();
+    String getEmail();
+    String getNiveau();
+    String getGroupe();
+}
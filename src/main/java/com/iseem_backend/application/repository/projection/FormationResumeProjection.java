@@ -0,0 +1,20 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.ModeFormation;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface FormationResumeProjection {
+    UUID getIdFormation();
+    String getNom();
+    Integer getDuree();
+    BigDecimal getCout();
+    String getDescription();
+    String getAnneeFormation();
+    Boolean getEstActive();
+    ModeFormation getModeFormation();
+    String getNiveauAcces();
+    Integer getCapaciteMax();
+    UUID getEmploiDuTempsId();
+}
@@ -0,0 +1,21 @@
+package com.iseem_backend.application.repository.projection;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface LienProjection {
+    UUID getProprietaireId();
+    UUID getElementId();
+
+    static Map<UUID, Set<UUID>> parProprietaire(List<LienProjection> liens) {
+        Map<UUID, Set<UUID>> groupes = new HashMap<>();
+        for (LienProjection lien : liens) {
+            groupes.computeIfAbsent(lien.getProprietaireId(), id -> new HashSet<>()).add(lien.getElementId());
+        }
+        return groupes;
+    }
+}
@@ -0,0 +1,23 @@
+package com.iseem_backend.application.repository.projection;
+
+import com.iseem_backend.application.enums.TypeNote;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface NoteResumeProjection {
+    UUID getIdNote();
+    UUID getStudentId();
+    String getStudentNom();
+    String getStudentPrenom();
+    String getMatricule();
+    UUID getModuleId();
+    String getModuleNom();
+    TypeNote getTypeNote();
+    BigDecimal getValeur();
+    String getAnneeScolaire();
+    LocalDateTime getDateCreation();
+    LocalDateTime getDateModification();
+    String getSaisiePar();
+}
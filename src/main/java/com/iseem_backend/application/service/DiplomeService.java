@@ -2,11 +2,15 @@ package com.iseem_backend.application.service;
 
 import com.iseem_backend.application.DTO.request.DiplomeRequest;
 import com.iseem_backend.application.DTO.response.DiplomeResponse;
+import com.iseem_backend.application.DTO.response.FichierResponse;
+import com.iseem_backend.application.DTO.response.QRCodeResponse;
 import com.iseem_backend.application.enums.TypeDiplome;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 public interface DiplomeService {
 
@@ -26,11 +30,19 @@ public interface DiplomeService {
 
     List<DiplomeResponse> filtrerDiplomesParType(TypeDiplome typeDiplome);
 
-    byte[] exporterDiplomes();
+    void exporterDiplomes(OutputStream out, IntConsumer progression);
 
     void importerDiplomes(MultipartFile file);
 
-    byte[] genererQRCode(UUID idDiplome);
+    DiplomeResponse deposerFichier(UUID idDiplome, MultipartFile fichier);
 
-    byte[] genererPDF(UUID idDiplome);
+    FichierResponse obtenirFichier(UUID idDiplome);
+
+    void supprimerFichier(UUID idDiplome);
+
+    QRCodeResponse genererQRCode(UUID idDiplome);
+
+    void genererPlancheQRCodes(List<UUID> idsDiplomes, OutputStream out, IntConsumer progression);
+
+    void genererPDF(UUID idDiplome, OutputStream out);
 }
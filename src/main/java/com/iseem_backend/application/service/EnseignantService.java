@@ -7,8 +7,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 public interface EnseignantService {
     EnseignantResponse ajouter(EnseignantRequest request);
@@ -23,8 +25,8 @@ public interface EnseignantService {
     EnseignantResponse assignerModule(UUID enseignantId, UUID moduleId);
     EnseignantResponse retirerDiplome(UUID enseignantId, UUID diplomeId);
     EnseignantResponse retirerModule(UUID enseignantId, UUID moduleId);
-    byte[] exporterEnseignantsVersExcel();
-    List<EnseignantResponse> importerEnseignantsDepuisExcel(MultipartFile file);
+    void exporterEnseignantsVersExcel(OutputStream out, IntConsumer progression);
+    List<EnseignantResponse> importerEnseignantsDepuisExcel(MultipartFile file, String importId);
 
 
 }
@@ -6,8 +6,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 public interface FormationService {
 
@@ -23,7 +25,7 @@ public interface FormationService {
 
     void assignerEnseignants(UUID idFormation, List<UUID> enseignantsIds);
 
-    byte[] exporterFormations();
+    void exporterFormations(OutputStream out, IntConsumer progression);
 
     void importerFormations(MultipartFile fichierExcel);
 
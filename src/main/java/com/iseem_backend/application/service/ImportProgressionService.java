@@ -0,0 +1,11 @@
+package com.iseem_backend.application.service;
+
+import com.iseem_backend.application.DTO.response.ImportProgressionResponse;
+import com.iseem_backend.application.utils.ProgressionImport;
+
+public interface ImportProgressionService {
+
+    ProgressionImport demarrer(String importId, String type);
+
+    ImportProgressionResponse consulter(String importId);
+}
@@ -0,0 +1,27 @@
+package com.iseem_backend.application.service;
+
+import com.iseem_backend.application.DTO.response.JobResponse;
+import com.iseem_backend.application.enums.TypeJob;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+public interface JobService {
+
+    JobResponse soumettre(TypeJob type, String nomFichier, String contentType, Tache tache);
+
+    JobResponse consulter(UUID idJob);
+
+    Page<JobResponse> lister(Pageable pageable);
+
+    Resource fichier(UUID idJob);
+
+    @FunctionalInterface
+    interface Tache {
+        void executer(OutputStream out, IntConsumer progression) throws Exception;
+    }
+}
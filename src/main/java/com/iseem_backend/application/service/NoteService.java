@@ -2,21 +2,31 @@ package com.iseem_backend.application.service;
 
 import com.iseem_backend.application.DTO.request.BulkNoteRequest;
 import com.iseem_backend.application.DTO.request.NoteRequest;
+import com.iseem_backend.application.DTO.response.BulkNoteReportResponse;
 import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.DTO.response.ClassementResponse;
 import com.iseem_backend.application.DTO.response.NoteResponse;
+import com.iseem_backend.application.DTO.response.StatistiquesModuleResponse;
+import com.iseem_backend.application.enums.Niveau;
 import com.iseem_backend.application.enums.TypeNote;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 public interface NoteService {
     NoteResponse ajouterNote(NoteRequest request, UUID enseignantId);
-    List<NoteResponse> ajouterNotesEnMasse(BulkNoteRequest request, UUID enseignantId);
+    BulkNoteReportResponse ajouterNotesEnMasse(BulkNoteRequest request, UUID enseignantId);
     NoteResponse modifierNote(UUID noteId, NoteRequest request, UUID enseignantId);
     void supprimerNote(UUID noteId, UUID enseignantId);
     List<NoteResponse> obtenirNotesParModule(UUID moduleId, String anneeScolaire);
+    StatistiquesModuleResponse obtenirStatistiquesModule(UUID moduleId, String anneeScolaire, TypeNote typeNote);
     List<NoteResponse> obtenirNotesParEtudiant(UUID studentId, String anneeScolaire);
     List<NoteResponse> obtenirNotesParEnseignant(UUID enseignantId, String anneeScolaire);
     BulletinResponse genererBulletin(UUID studentId, String anneeScolaire, TypeNote typeEvaluation);
-    byte[] exporterBulletinPDF(UUID studentId, String anneeScolaire, TypeNote typeEvaluation);
+    List<ClassementResponse> obtenirClassement(Niveau niveau, String groupe, String anneeScolaire, TypeNote typeEvaluation);
+    void exporterBulletinPDF(UUID studentId, String anneeScolaire, TypeNote typeEvaluation, OutputStream out);
+    void exporterBulletinsPromotion(Niveau niveau, String groupe, String anneeScolaire, TypeNote typeEvaluation,
+                                    boolean fusionner, OutputStream out, IntConsumer progression);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.iseem_backend.application.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+public interface StockageFichierService {
+
+    String stocker(InputStream contenu) throws IOException;
+
+    Resource lire(String cle);
+
+    boolean existe(String cle);
+
+    List<String> clesAnterieures(Instant limite) throws IOException;
+
+    void supprimer(String cle);
+}
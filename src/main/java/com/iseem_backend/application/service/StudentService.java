@@ -1,15 +1,19 @@
 package com.iseem_backend.application.service;
 
 import com.iseem_backend.application.DTO.request.StudentRequest;
+import com.iseem_backend.application.DTO.response.EtudiantResumeResponse;
+import com.iseem_backend.application.DTO.response.PageCurseurResponse;
 import com.iseem_backend.application.DTO.response.StudentResponse;
 import com.iseem_backend.application.model.Diplome;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 public interface StudentService {
 
@@ -25,11 +29,11 @@ public interface StudentService {
 
     Page<StudentResponse> obtenirTousLesEtudiants(Pageable pageable);
 
-    Map<String, Object> importerEtudiants(MultipartFile fichierExcel);
+    Map<String, Object> importerEtudiants(MultipartFile fichierExcel, String importId);
 
-    byte[] exporterEtudiants();
+    void exporterEtudiants(OutputStream out, IntConsumer progression);
 
-    byte[] genererCartesScolaires(List<UUID> idsEtudiants);
+    void genererCartesScolaires(List<UUID> idsEtudiants, OutputStream out, IntConsumer progression);
 
     void ajouterDiplome(UUID idEtudiant, Diplome diplome);
 
@@ -39,6 +43,8 @@ public interface StudentService {
 
     List<StudentResponse> rechercherEtudiants(String nom, String prenom, String matricule);
 
-    List<StudentResponse> getStudentsForTeacher(UUID teacherId);
+    PageCurseurResponse<EtudiantResumeResponse> rechercherEtudiants(String terme, String curseur, int taille);
+
+    Page<EtudiantResumeResponse> getStudentsForTeacher(UUID teacherId, UUID moduleId, String groupe, Pageable pageable);
 
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.config.CacheConfig;
+import com.iseem_backend.application.enums.TypeNote;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class BulletinCache {
+
+    private final Cache cache;
+
+    public BulletinCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.BULLETINS));
+    }
+
+    public BulletinResponse obtenir(UUID studentId, String anneeScolaire, TypeNote typeEvaluation,
+                                    Supplier<BulletinResponse> calcul) {
+        try {
+            return cache.get(new BulletinCle(studentId, anneeScolaire, typeEvaluation), calcul::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalider(UUID studentId, String anneeScolaire) {
+        for (TypeNote type : TypeNote.values()) {
+            cache.evict(new BulletinCle(studentId, anneeScolaire, type));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void invaliderEtudiant(UUID studentId) {
+        ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).asMap().keySet().stream()
+                .filter(cle -> cle instanceof BulletinCle bulletin && bulletin.studentId().equals(studentId))
+                .toList()
+                .forEach(cache::evict);
+    }
+
+    private record BulletinCle(UUID studentId, String anneeScolaire, TypeNote typeEvaluation) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.ClassementResponse;
+import com.iseem_backend.application.config.CacheConfig;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeNote;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class ClassementCache {
+
+    private final Cache cache;
+
+    public ClassementCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CLASSEMENTS));
+    }
+
+    public Classement obtenir(Niveau niveau, String anneeScolaire, TypeNote typeEvaluation,
+                              Supplier<List<ClassementResponse>> calcul) {
+        return cache.get(new ClassementCle(niveau, anneeScolaire, typeEvaluation), () -> {
+            List<ClassementResponse> lignes = calcul.get();
+            return new Classement(lignes, lignes.stream()
+                    .collect(Collectors.toMap(ClassementResponse::getStudentId, Function.identity())));
+        });
+    }
+
+    public void invalider(Niveau niveau, String anneeScolaire, TypeNote typeNote) {
+        if (niveau == null) {
+            return;
+        }
+        cache.evict(new ClassementCle(niveau, anneeScolaire, typeNote));
+        if (typeNote == TypeNote.C1 || typeNote == TypeNote.C2) {
+            cache.evict(new ClassementCle(niveau, anneeScolaire, TypeNote.EXAMEN_TH));
+        }
+    }
+
+    public void invaliderTout() {
+        cache.clear();
+    }
+
+    public record Classement(List<ClassementResponse> lignes, Map<UUID, ClassementResponse> parEtudiant) {
+    }
+
+    private record ClassementCle(Niveau niveau, String anneeScolaire, TypeNote typeEvaluation) {
+    }
+}
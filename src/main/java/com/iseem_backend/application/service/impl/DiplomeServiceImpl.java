@@ -2,6 +2,8 @@ package com.iseem_backend.application.service.impl;
 
 import com.iseem_backend.application.DTO.request.DiplomeRequest;
 import com.iseem_backend.application.DTO.response.DiplomeResponse;
+import com.iseem_backend.application.DTO.response.FichierResponse;
+import com.iseem_backend.application.DTO.response.QRCodeResponse;
 import com.iseem_backend.application.enums.TypeDiplome;
 import com.iseem_backend.application.exceptions.DiplomeNotFoundException;
 import com.iseem_backend.application.mapper.DiplomeMapper;
@@ -9,34 +11,71 @@ import com.iseem_backend.application.model.Diplome;
 import com.iseem_backend.application.model.User;
 import com.iseem_backend.application.repository.DiplomeRepository;
 import com.iseem_backend.application.repository.UserRepository;
+import com.iseem_backend.application.repository.projection.DiplomeEtiquetteProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import com.iseem_backend.application.service.DiplomeService;
+import com.iseem_backend.application.service.StockageFichierService;
 import com.iseem_backend.application.utils.DiplomePDFGenerator;
 import com.iseem_backend.application.utils.ExcelUtils;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.WriterException;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
+import com.iseem_backend.application.utils.KeysetPages;
+import com.iseem_backend.application.utils.PlancheQRCodeGenerator;
+import com.iseem_backend.application.utils.Progression;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class DiplomeServiceImpl implements DiplomeService {
 
     private final DiplomeRepository diplomeRepository;
     private final UserRepository userRepository;
     private final DiplomeMapper diplomeMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MetriquesDocuments metriquesDocuments;
+    private final QRCodeCache qrCodeCache;
+    private final StockageFichierService stockageFichierService;
+
+    @Qualifier("executeurDocuments")
+    private final ExecutorService executeurDocuments;
+
+    @Value("${iseem.diplomes.url-verification:https://diplome.example.com/}")
+    private String urlVerification;
+
+    @Value("${iseem.fichiers.purge-delai:PT1H}")
+    private Duration delaiPurgeFichiers;
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
@@ -81,14 +120,122 @@ public class DiplomeServiceImpl implements DiplomeService {
     public void supprimerDiplome(UUID idDiplome) {
         Diplome diplome = diplomeRepository.findById(idDiplome)
                 .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
+        String cle = diplome.getFichierCle();
         diplomeRepository.delete(diplome);
+        libererFichier(cle);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public DiplomeResponse deposerFichier(UUID idDiplome, MultipartFile fichier) {
+        if (!diplomeRepository.existsById(idDiplome)) {
+            throw new DiplomeNotFoundException(idDiplome);
+        }
+        if (fichier.isEmpty()) {
+            throw new RuntimeException("Le fichier du diplôme est vide");
+        }
+        String cle;
+        try (InputStream contenu = fichier.getInputStream()) {
+            cle = stockageFichierService.stocker(contenu);
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de l'enregistrement du fichier du diplôme", e);
+        }
+        TransactionTemplate ecriture = new TransactionTemplate(transactionManager);
+        return ecriture.execute(status -> {
+            diplomeRepository.verrouillerFichier(cle);
+            if (!stockageFichierService.existe(cle)) {
+                try (InputStream contenu = fichier.getInputStream()) {
+                    stockageFichierService.stocker(contenu);
+                } catch (IOException e) {
+                    throw new RuntimeException("Erreur lors de l'enregistrement du fichier du diplôme", e);
+                }
+            }
+            Diplome diplome = diplomeRepository.findById(idDiplome)
+                    .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
+            String ancienneCle = diplome.getFichierCle();
+            diplome.setFichierCle(cle);
+            diplome.setFichierNom(fichier.getOriginalFilename());
+            diplome.setFichierType(fichier.getContentType());
+            diplome.setFichierTaille(fichier.getSize());
+            DiplomeResponse response = diplomeMapper.toDto(diplomeRepository.save(diplome));
+            if (!cle.equals(ancienneCle)) {
+                libererFichier(ancienneCle);
+            }
+            return response;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
+    public FichierResponse obtenirFichier(UUID idDiplome) {
+        Diplome diplome = diplomeRepository.findById(idDiplome)
+                .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
+        if (diplome.getFichierCle() == null) {
+            throw new RuntimeException("Aucun fichier pour le diplôme: " + idDiplome);
+        }
+        return FichierResponse.builder()
+                .cle(diplome.getFichierCle())
+                .nom(diplome.getFichierNom())
+                .contentType(diplome.getFichierType())
+                .taille(diplome.getFichierTaille())
+                .contenu(stockageFichierService.lire(diplome.getFichierCle()))
+                .build();
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public void supprimerFichier(UUID idDiplome) {
+        Diplome diplome = diplomeRepository.findById(idDiplome)
+                .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
+        String cle = diplome.getFichierCle();
+        diplome.setFichierCle(null);
+        diplome.setFichierNom(null);
+        diplome.setFichierType(null);
+        diplome.setFichierTaille(null);
+        diplomeRepository.save(diplome);
+        libererFichier(cle);
+    }
+
+    private void libererFichier(String cle) {
+        if (cle == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                supprimerSiOrphelin(cle);
+            }
+        });
+    }
+
+    private void supprimerSiOrphelin(String cle) {
+        TransactionTemplate nettoyage = new TransactionTemplate(transactionManager);
+        nettoyage.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        nettoyage.executeWithoutResult(status -> {
+            diplomeRepository.verrouillerFichier(cle);
+            if (!diplomeRepository.existsByFichierCle(cle)) {
+                stockageFichierService.supprimer(cle);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${iseem.fichiers.purge-interval:PT6H}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgerFichiersOrphelins() throws IOException {
+        List<String> cles = stockageFichierService.clesAnterieures(Instant.now().minus(delaiPurgeFichiers));
+        for (String cle : cles) {
+            supprimerSiOrphelin(cle);
+        }
+        log.info("Purge des fichiers de diplômes: {} fichiers examinés", cles.size());
     }
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
     @Transactional(readOnly = true)
     public DiplomeResponse obtenirDiplomeParId(UUID idDiplome) {
-        Diplome diplome = diplomeRepository.findById(idDiplome)
+        Diplome diplome = diplomeRepository.findDetailById(idDiplome)
                 .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
         return diplomeMapper.toDto(diplome);
     }
@@ -97,8 +244,10 @@ public class DiplomeServiceImpl implements DiplomeService {
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
     @Transactional(readOnly = true)
     public List<DiplomeResponse> obtenirTousDiplomes() {
-        return diplomeRepository.findAll().stream()
-                .map(diplomeMapper::toDto)
+        Map<UUID, Set<UUID>> professeurs = LienProjection.parProprietaire(diplomeRepository.findProfesseurIds());
+        return diplomeRepository.findResumes().stream()
+                .map(diplome -> diplomeMapper.toDto(diplome,
+                        professeurs.getOrDefault(diplome.getIdDiplome(), Set.of())))
                 .collect(Collectors.toList());
     }
 
@@ -112,9 +261,16 @@ public class DiplomeServiceImpl implements DiplomeService {
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
-    public byte[] exporterDiplomes() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exporterDiplomes(OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        long total = diplomeRepository.count();
         try {
-            return ExcelUtils.exportDiplomes(diplomeRepository.findAll());
+            metriquesDocuments.mesurerFlux("export_diplomes", MetriquesDocuments.XLSX, out,
+                    flux -> ExcelUtils.exportDiplomes(flux, Progression.suivre(new KeysetPages<>(
+                            apres -> lecture.execute(status -> diplomeRepository.findPageApres(apres, PageRequest.of(0, KeysetPages.TAILLE_PAGE))),
+                            Diplome::getIdDiplome), total, progression)));
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors de l'export des diplômes", e);
         }
@@ -132,31 +288,68 @@ public class DiplomeServiceImpl implements DiplomeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
-    public byte[] genererQRCode(UUID idDiplome) {
+    public QRCodeResponse genererQRCode(UUID idDiplome) {
+        if (!diplomeRepository.existsById(idDiplome)) {
+            throw new DiplomeNotFoundException(idDiplome);
+        }
+        return qrCodeCache.obtenir(urlVerification + idDiplome);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
+    public void genererPlancheQRCodes(List<UUID> idsDiplomes, OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        List<UUID> ids = idsDiplomes.stream().distinct().toList();
+        Iterable<List<PlancheQRCodeGenerator.EtiquetteQRCode>> lots = () -> IntStream.iterate(0, debut -> debut < ids.size(), debut -> debut + KeysetPages.TAILLE_PAGE)
+                .mapToObj(debut -> ids.subList(debut, Math.min(debut + KeysetPages.TAILLE_PAGE, ids.size())))
+                .map(lot -> lecture.execute(status -> etiquettes(lot)))
+                .iterator();
         try {
-            Diplome diplome = diplomeRepository.findById(idDiplome)
-                    .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(
-                    "https://diplome.example.com/" + diplome.getIdDiplome(),
-                    BarcodeFormat.QR_CODE,
-                    250,
-                    250
-            );
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", baos);
-            return baos.toByteArray();
-        } catch (WriterException | IOException e) {
-            throw new RuntimeException("Erreur lors de la génération du QR code", e);
+            metriquesDocuments.mesurerFlux("planche_qr_codes", MetriquesDocuments.PDF, out,
+                    flux -> PlancheQRCodeGenerator.ecrire(Progression.suivre(lots, ids.size(), progression), flux, executeurDocuments));
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération de la planche de QR codes", e);
         }
     }
 
+    private List<PlancheQRCodeGenerator.EtiquetteQRCode> etiquettes(List<UUID> ids) {
+        Map<UUID, DiplomeEtiquetteProjection> parId = diplomeRepository.findEtiquettesParIds(ids).stream()
+                .collect(Collectors.toMap(DiplomeEtiquetteProjection::getIdDiplome, Function.identity()));
+        return ids.stream()
+                .map(id -> {
+                    DiplomeEtiquetteProjection diplome = parId.get(id);
+                    if (diplome == null) {
+                        throw new DiplomeNotFoundException(id);
+                    }
+                    String titulaire = Stream.of(diplome.getPrenom(), diplome.getNom())
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.joining(" "));
+                    String nom = diplome.getNomDiplome() != null ? diplome.getNomDiplome() : "";
+                    return new PlancheQRCodeGenerator.EtiquetteQRCode(urlVerification + id,
+                            titulaire.isEmpty() ? nom : titulaire,
+                            diplome.getAnneeObtention() != null ? nom + " - " + diplome.getAnneeObtention() : nom,
+                            id.toString());
+                })
+                .toList();
+    }
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
-    public byte[] genererPDF(UUID idDiplome) {
-        Diplome diplome = diplomeRepository.findById(idDiplome)
-                .orElseThrow(() -> new DiplomeNotFoundException(idDiplome));
-        return DiplomePDFGenerator.generatePDF(diplome);
+    public void genererPDF(UUID idDiplome, OutputStream out) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        Diplome diplome = lecture.execute(status -> diplomeRepository.findById(idDiplome)
+                .orElseThrow(() -> new DiplomeNotFoundException(idDiplome)));
+        try {
+            metriquesDocuments.mesurerFlux("diplome", MetriquesDocuments.PDF, out,
+                    flux -> DiplomePDFGenerator.ecrire(diplome, flux));
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération du PDF du diplôme", e);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.iseem_backend.application.service.impl;
 
 import com.iseem_backend.application.DTO.request.EnseignantRequest;
+import com.iseem_backend.application.DTO.response.CustomFieldResponse;
 import com.iseem_backend.application.DTO.response.EnseignantResponse;
 import com.iseem_backend.application.enums.StatusEnseignant;
 import com.iseem_backend.application.exceptions.DiplomeNotFoundException;
@@ -16,21 +17,41 @@ import com.iseem_backend.application.repository.DiplomeRepository;
 import com.iseem_backend.application.repository.EnseignantRepository;
 import com.iseem_backend.application.repository.ModuleRepository;
 import com.iseem_backend.application.repository.UserRepository;
+import com.iseem_backend.application.repository.projection.ChampPersonnaliseProjection;
+import com.iseem_backend.application.repository.projection.EnseignantResumeProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import com.iseem_backend.application.service.EnseignantService;
+import com.iseem_backend.application.service.ImportProgressionService;
 import com.iseem_backend.application.utils.ExcelUtils;
+import com.iseem_backend.application.utils.KeysetPages;
+import com.iseem_backend.application.utils.LigneImportee;
+import com.iseem_backend.application.utils.Progression;
+import com.iseem_backend.application.utils.ProgressionImport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,6 +65,13 @@ public class EnseignantServiceImpl implements EnseignantService {
     private final ModuleRepository moduleRepository;
     private final DiplomeRepository diplomeRepository;
     private final EnseignantMapper enseignantMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final ImportProgressionService importProgressionService;
+    private final EtapeHachageMotsDePasse etapeHachage;
+    private final MetriquesDocuments metriquesDocuments;
+
+    @Value("${iseem.import.chunk-size:500}")
+    private int tailleLotImport;
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
@@ -99,7 +127,7 @@ public class EnseignantServiceImpl implements EnseignantService {
     @Override
     @Transactional(readOnly = true)
     public EnseignantResponse obtenirParId(UUID id) {
-        Enseignant enseignant = enseignantRepository.findById(id)
+        Enseignant enseignant = enseignantRepository.findDetailById(id)
                 .orElseThrow(() -> new RuntimeException("Enseignant introuvable"));
         return enseignantMapper.toDto(enseignant);
     }
@@ -107,17 +135,39 @@ public class EnseignantServiceImpl implements EnseignantService {
     @Override
     @Transactional(readOnly = true)
     public List<EnseignantResponse> obtenirTous() {
-        List<Enseignant> enseignants = enseignantRepository.findAll();
+        List<EnseignantResumeProjection> enseignants = enseignantRepository.findResumes(Pageable.unpaged()).getContent();
         return enseignants.stream()
-                .map(enseignantMapper::toDto)
+                .map(convertisseurResumes(enseignants))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EnseignantResponse> obtenirTousAvecPagination(Pageable pageable) {
-        Page<Enseignant> enseignants = enseignantRepository.findAllWithUser(pageable);
-        return enseignants.map(enseignantMapper::toDto);
+        Page<EnseignantResumeProjection> enseignants = enseignantRepository.findResumes(pageable);
+        return enseignants.map(convertisseurResumes(enseignants.getContent()));
+    }
+
+    private Function<EnseignantResumeProjection, EnseignantResponse> convertisseurResumes(
+            List<EnseignantResumeProjection> enseignants) {
+        if (enseignants.isEmpty()) {
+            return enseignant -> enseignantMapper.toDto(enseignant, Set.of(), Set.of(), Set.of());
+        }
+        List<UUID> ids = enseignants.stream().map(EnseignantResumeProjection::getEnseignantId).toList();
+        Map<UUID, Set<UUID>> modules = LienProjection.parProprietaire(enseignantRepository.findModuleIdsParEnseignant(ids));
+        Map<UUID, Set<UUID>> diplomes = LienProjection.parProprietaire(enseignantRepository.findDiplomeIdsParEnseignant(ids));
+        Map<UUID, Set<CustomFieldResponse>> champs = new HashMap<>();
+        for (ChampPersonnaliseProjection champ : enseignantRepository.findChampsParEnseignant(ids)) {
+            champs.computeIfAbsent(champ.getProprietaireId(), id -> new HashSet<>())
+                    .add(CustomFieldResponse.builder()
+                            .fieldName(champ.getFieldName())
+                            .fieldValue(champ.getFieldValue())
+                            .build());
+        }
+        return enseignant -> enseignantMapper.toDto(enseignant,
+                modules.getOrDefault(enseignant.getEnseignantId(), Set.of()),
+                diplomes.getOrDefault(enseignant.getEnseignantId(), Set.of()),
+                champs.getOrDefault(enseignant.getEnseignantId(), Set.of()));
     }
 
     @Override
@@ -209,46 +259,103 @@ public class EnseignantServiceImpl implements EnseignantService {
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
-    public List<EnseignantResponse> importerEnseignantsDepuisExcel(MultipartFile file) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EnseignantResponse> importerEnseignantsDepuisExcel(MultipartFile file, String importId) {
         try {
             log.info("Starting import from Excel file: {}", file.getOriginalFilename());
 
-            List<Enseignant> enseignants = ExcelUtils.importEnseignants(file);
-
-            for (Enseignant enseignant : enseignants) {
-                if (userRepository.existsByEmail(enseignant.getUser().getEmail())) {
-                    log.warn("Email already exists: {}, skipping", enseignant.getUser().getEmail());
-                    continue;
-                }
-
-                userRepository.save(enseignant.getUser());
-                enseignantRepository.save(enseignant);
+            List<EnseignantResponse> importes = new ArrayList<>();
+            Set<String> emailsVus = new HashSet<>();
+            TransactionTemplate ecriture = new TransactionTemplate(transactionManager);
+            ProgressionImport progression = importProgressionService.demarrer(importId, "ENSEIGNANTS");
+
+            try {
+                ExcelUtils.importEnseignants(file, tailleLotImport, lignes -> {
+                    progression.lignesLues(lignes.size());
+
+                    Set<String> emailsExistants = userRepository.findEmailsExistants(
+                            lignes.stream().map(l -> l.entite().getUser().getEmail()).toList());
+
+                    List<LigneImportee<Enseignant>> nouvelles = new ArrayList<>(lignes.size());
+                    for (LigneImportee<Enseignant> ligne : lignes) {
+                        String email = ligne.entite().getUser().getEmail();
+                        if (emailsExistants.contains(email) || !emailsVus.add(email)) {
+                            log.warn("Email already exists: {}, skipping", email);
+                            progression.rejete();
+                            continue;
+                        }
+                        nouvelles.add(ligne);
+                    }
+
+                    List<Enseignant> enseignants = etapeHachage.hacher(nouvelles, Enseignant::getUser, progression);
+                    importes.addAll(persisterLot(ecriture, enseignants, progression));
+                });
+                progression.terminer();
+            } catch (RuntimeException e) {
+                progression.echouer();
+                throw e;
             }
 
-            log.info("Import completed successfully. Imported {} enseignants", enseignants.size());
+            log.info("Import completed successfully. Imported {} enseignants", importes.size());
 
-            return enseignants.stream()
-                    .map(enseignantMapper::toDto)
-                    .collect(Collectors.toList());
+            return importes;
         } catch (Exception e) {
             log.error("Error importing enseignants from Excel", e);
             throw new RuntimeException("Erreur lors de l'importation: " + e.getMessage(), e);
         }
     }
 
-    @Override
-    @PreAuthorize("hasRole('ADMINISTRATION')")
-    @Transactional(readOnly = true)
-    public byte[] exporterEnseignantsVersExcel() {
+    private List<EnseignantResponse> persisterLot(TransactionTemplate ecriture, List<Enseignant> enseignants,
+                                                  ProgressionImport progression) {
+        if (enseignants.isEmpty()) {
+            return List.of();
+        }
         try {
-            log.info("Starting export to Excel");
+            List<EnseignantResponse> enregistres = ecriture.execute(status -> enseignants.stream()
+                    .map(this::persisterEnseignant)
+                    .toList());
+            enseignants.forEach(e -> progression.enregistre());
+            return enregistres;
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} enseignants rejected ({}), retrying row by row", enseignants.size(), e.getMessage());
+        }
 
-            List<Enseignant> enseignants = enseignantRepository.findAll();
-            byte[] excelData = ExcelUtils.exportEnseignants(enseignants);
+        List<EnseignantResponse> enregistres = new ArrayList<>();
+        for (Enseignant enseignant : enseignants) {
+            enseignant.setEnseignantId(null);
+            enseignant.getUser().setUserId(null);
+            if (enseignant.getCustomFields() != null) {
+                enseignant.getCustomFields().forEach(champ -> champ.setId(null));
+            }
+            try {
+                enregistres.add(ecriture.execute(status -> persisterEnseignant(enseignant)));
+                progression.enregistre();
+            } catch (RuntimeException e) {
+                log.error("Error saving enseignant {}: {}", enseignant.getUser().getEmail(), e.getMessage());
+                progression.rejete();
+            }
+        }
+        return enregistres;
+    }
 
-            log.info("Export completed successfully. Exported {} enseignants", enseignants.size());
+    private EnseignantResponse persisterEnseignant(Enseignant enseignant) {
+        enseignant.setUser(userRepository.save(enseignant.getUser()));
+        return enseignantMapper.toDto(enseignantRepository.save(enseignant));
+    }
 
-            return excelData;
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exporterEnseignantsVersExcel(OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        long total = enseignantRepository.count();
+        try {
+            log.info("Starting export to Excel");
+            metriquesDocuments.mesurerFlux("export_enseignants", MetriquesDocuments.XLSX, out,
+                    flux -> ExcelUtils.exportEnseignants(flux, Progression.suivre(new KeysetPages<>(
+                            apres -> lecture.execute(status -> enseignantRepository.findPageApres(apres, PageRequest.of(0, KeysetPages.TAILLE_PAGE))),
+                            Enseignant::getEnseignantId), total, progression)));
         } catch (IOException e) {
             log.error("Error exporting enseignants to Excel", e);
             throw new RuntimeException("Erreur lors de l'exportation: " + e.getMessage(), e);
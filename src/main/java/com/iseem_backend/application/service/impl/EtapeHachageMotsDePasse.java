@@ -0,0 +1,58 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.model.User;
+import com.iseem_backend.application.utils.LigneImportee;
+import com.iseem_backend.application.utils.ProgressionImport;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+@Component
+public class EtapeHachageMotsDePasse {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executeurHachage;
+
+    public EtapeHachageMotsDePasse(PasswordEncoder passwordEncoder,
+                                   @Qualifier("executeurHachage") ExecutorService executeurHachage) {
+        this.passwordEncoder = passwordEncoder;
+        this.executeurHachage = executeurHachage;
+    }
+
+    public <T> List<T> hacher(List<LigneImportee<T>> lignes, Function<T, User> utilisateur, ProgressionImport progression) {
+        List<Future<String>> hachages = new ArrayList<>(lignes.size());
+        for (LigneImportee<T> ligne : lignes) {
+            hachages.add(executeurHachage.submit(() -> {
+                String hash = passwordEncoder.encode(ligne.motDePasse());
+                progression.motDePasseHache();
+                return hash;
+            }));
+        }
+
+        List<T> entites = new ArrayList<>(lignes.size());
+        for (int i = 0; i < lignes.size(); i++) {
+            T entite = lignes.get(i).entite();
+            utilisateur.apply(entite).setPasswordHash(attendre(hachages.get(i)));
+            entites.add(entite);
+        }
+        return entites;
+    }
+
+    private String attendre(Future<String> hachage) {
+        try {
+            return hachage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Hachage des mots de passe interrompu", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Erreur lors du hachage du mot de passe", e.getCause());
+        }
+    }
+}
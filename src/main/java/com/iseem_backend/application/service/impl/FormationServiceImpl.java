@@ -10,19 +10,29 @@ import com.iseem_backend.application.model.EmploiDuTemps;
 import com.iseem_backend.application.model.Formation;
 import com.iseem_backend.application.repository.EnseignantRepository;
 import com.iseem_backend.application.repository.FormationRepository;
+import com.iseem_backend.application.repository.projection.FormationResumeProjection;
+import com.iseem_backend.application.repository.projection.LienProjection;
 import com.iseem_backend.application.service.FormationService;
 import com.iseem_backend.application.utils.EmploiDuTempsGenerator;
 import com.iseem_backend.application.utils.ExcelUtils;
+import com.iseem_backend.application.utils.KeysetPages;
+import com.iseem_backend.application.utils.Progression;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +43,8 @@ public class FormationServiceImpl implements FormationService {
     private final FormationRepository formationRepository;
     private final EnseignantRepository enseignantRepository;
     private final FormationMapper formationMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MetriquesDocuments metriquesDocuments;
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
@@ -85,7 +97,7 @@ public class FormationServiceImpl implements FormationService {
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
     @Transactional(readOnly = true)
     public FormationResponse obtenirFormationParId(UUID idFormation) {
-        Formation formation = formationRepository.findById(idFormation)
+        Formation formation = formationRepository.findDetailById(idFormation)
                 .orElseThrow(() -> new FormationNotFoundException(idFormation));
         return formationMapper.toDto(formation);
     }
@@ -94,8 +106,14 @@ public class FormationServiceImpl implements FormationService {
     @PreAuthorize("hasRole('ADMINISTRATION') or hasRole('ENSEIGNANT')")
     @Transactional(readOnly = true)
     public Page<FormationResponse> obtenirToutesFormations(Pageable pageable) {
-        return formationRepository.findAll(pageable)
-                .map(formationMapper::toDto);
+        Page<FormationResumeProjection> formations = formationRepository.findResumes(pageable);
+        if (formations.isEmpty()) {
+            return formations.map(formation -> formationMapper.toDto(formation, Set.of()));
+        }
+        List<UUID> ids = formations.stream().map(FormationResumeProjection::getIdFormation).toList();
+        Map<UUID, Set<UUID>> enseignants = LienProjection.parProprietaire(formationRepository.findEnseignantIdsParFormation(ids));
+        return formations.map(formation -> formationMapper.toDto(formation,
+                enseignants.getOrDefault(formation.getIdFormation(), Set.of())));
     }
 
     @Override
@@ -116,10 +134,22 @@ public class FormationServiceImpl implements FormationService {
 
     @Override
     @PreAuthorize("hasRole('ADMINISTRATION')")
-    public byte[] exporterFormations() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exporterFormations(OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        long total = formationRepository.count();
         try {
-            List<Formation> formations = formationRepository.findAll();
-            return ExcelUtils.exportFormations(formations);
+            metriquesDocuments.mesurerFlux("export_formations", MetriquesDocuments.XLSX, out,
+                    flux -> ExcelUtils.exportFormations(flux, Progression.suivre(new KeysetPages<>(
+                            apres -> lecture.execute(status -> {
+                                List<Formation> page = formationRepository.findPageApres(apres, PageRequest.of(0, KeysetPages.TAILLE_PAGE));
+                                if (!page.isEmpty()) {
+                                    formationRepository.chargerEnseignants(page);
+                                }
+                                return page;
+                            }),
+                            Formation::getIdFormation), total, progression)));
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors de l'export des formations", e);
         }
@@ -143,6 +173,6 @@ public class FormationServiceImpl implements FormationService {
         Formation formation = formationRepository.findById(idFormation)
                 .orElseThrow(() -> new FormationNotFoundException(idFormation));
         EmploiDuTemps emploi = formation.getEmploiDuTemps();
-        return EmploiDuTempsGenerator.generatePDF(emploi);
+        return metriquesDocuments.mesurer("emploi_du_temps", MetriquesDocuments.PDF, () -> EmploiDuTempsGenerator.generatePDF(emploi));
     }
 }
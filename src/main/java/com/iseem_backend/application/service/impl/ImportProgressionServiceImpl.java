@@ -0,0 +1,59 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.ImportProgressionResponse;
+import com.iseem_backend.application.service.ImportProgressionService;
+import com.iseem_backend.application.utils.ProgressionImport;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class ImportProgressionServiceImpl implements ImportProgressionService {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final Map<String, ProgressionImport> progressions = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    @Override
+    public ProgressionImport demarrer(String importId, String type) {
+        Instant limite = Instant.now().minus(RETENTION);
+        progressions.values().removeIf(p -> p.getFin() != null && p.getFin().isBefore(limite));
+
+        String id = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        return progressions.compute(id, (cle, existante) -> {
+            if (existante != null && existante.getFin() == null) {
+                throw new RuntimeException("Un import est déjà en cours avec l'identifiant: " + cle);
+            }
+            return new ProgressionImport(cle, type, registry);
+        });
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public ImportProgressionResponse consulter(String importId) {
+        ProgressionImport p = progressions.get(importId);
+        if (p == null) {
+            throw new RuntimeException("Import introuvable: " + importId);
+        }
+        return ImportProgressionResponse.builder()
+                .importId(p.getImportId())
+                .type(p.getType())
+                .statut(p.getStatut())
+                .lignesLues(p.getLignesLues().get())
+                .motsDePasseHaches(p.getMotsDePasseHaches().get())
+                .enregistres(p.getEnregistres().get())
+                .rejetes(p.getRejetes().get())
+                .debut(p.getDebut())
+                .fin(p.getFin())
+                .build();
+    }
+}
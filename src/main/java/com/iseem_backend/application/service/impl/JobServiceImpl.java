@@ -0,0 +1,209 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.JobResponse;
+import com.iseem_backend.application.enums.StatutJob;
+import com.iseem_backend.application.enums.TypeJob;
+import com.iseem_backend.application.model.Job;
+import com.iseem_backend.application.repository.JobRepository;
+import com.iseem_backend.application.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobServiceImpl implements JobService {
+
+    private final JobRepository jobRepository;
+    @Qualifier("executeurJobs")
+    private final ExecutorService executeurJobs;
+
+    @Value("${iseem.jobs.spool-dir:data/jobs}")
+    private String repertoireSpool;
+
+    @Value("${iseem.jobs.retention:P7D}")
+    private Duration retention;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reprendreApresRedemarrage() throws IOException {
+        Files.createDirectories(Paths.get(repertoireSpool));
+        int interrompus = jobRepository.marquerInterrompus(List.of(StatutJob.EN_ATTENTE, StatutJob.EN_COURS),
+                StatutJob.ECHEC, "Interrompu par le redémarrage du serveur", LocalDateTime.now());
+        if (interrompus > 0) {
+            log.warn("{} jobs interrompus par le redémarrage marqués en échec", interrompus);
+        }
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public JobResponse soumettre(TypeJob type, String nomFichier, String contentType, Tache tache) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Job job = jobRepository.save(Job.builder()
+                .type(type)
+                .statut(StatutJob.EN_ATTENTE)
+                .nomFichier(nomFichier)
+                .contentType(contentType)
+                .demandePar(auth != null ? auth.getName() : null)
+                .build());
+
+        UUID idJob = job.getIdJob();
+        try {
+            executeurJobs.execute(new DelegatingSecurityContextRunnable(() -> executer(idJob, tache)));
+        } catch (RejectedExecutionException e) {
+            mettreAJour(idJob, j -> terminerEnEchec(j, "File d'attente des jobs pleine"));
+            throw new RuntimeException("Trop de jobs en cours, réessayez plus tard");
+        }
+        log.info("Job {} ({}) soumis", idJob, type);
+        return toResponse(job);
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public JobResponse consulter(UUID idJob) {
+        return toResponse(trouverJob(idJob));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public Page<JobResponse> lister(Pageable pageable) {
+        return jobRepository.findAll(pageable).map(this::toResponse);
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public Resource fichier(UUID idJob) {
+        Job job = trouverJob(idJob);
+        if (job.getStatut() != StatutJob.TERMINE || job.getCheminFichier() == null) {
+            throw new RuntimeException("Le job n'est pas terminé");
+        }
+        Path chemin = Paths.get(job.getCheminFichier());
+        if (!Files.exists(chemin)) {
+            throw new RuntimeException("Le fichier du job a expiré");
+        }
+        return new FileSystemResource(chemin);
+    }
+
+    @Scheduled(fixedDelayString = "${iseem.jobs.purge-interval:PT1H}")
+    public void purgerJobsExpires() {
+        List<Job> expires = jobRepository.findByDateCreationBefore(LocalDateTime.now().minus(retention));
+        for (Job job : expires) {
+            if (job.getStatut() == StatutJob.EN_COURS || job.getStatut() == StatutJob.EN_ATTENTE) {
+                continue;
+            }
+            supprimerFichier(job.getCheminFichier());
+            jobRepository.delete(job);
+        }
+        if (!expires.isEmpty()) {
+            log.info("Purge des jobs: {} jobs expirés traités", expires.size());
+        }
+    }
+
+    private void executer(UUID idJob, Tache tache) {
+        mettreAJour(idJob, job -> {
+            job.setStatut(StatutJob.EN_COURS);
+            job.setDateDebut(LocalDateTime.now());
+        });
+
+        Path fichier = Paths.get(repertoireSpool).resolve(idJob.toString());
+        int[] dernier = {0};
+        try {
+            Files.createDirectories(fichier.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(fichier))) {
+                tache.executer(out, pourcentage -> {
+                    int borne = Math.max(0, Math.min(99, pourcentage));
+                    if (borne > dernier[0]) {
+                        dernier[0] = borne;
+                        jobRepository.majProgression(idJob, borne);
+                    }
+                });
+            }
+            long taille = Files.size(fichier);
+            mettreAJour(idJob, job -> {
+                job.setStatut(StatutJob.TERMINE);
+                job.setProgression(100);
+                job.setCheminFichier(fichier.toAbsolutePath().toString());
+                job.setTaille(taille);
+                job.setDateFin(LocalDateTime.now());
+            });
+            log.info("Job {} terminé ({} octets)", idJob, taille);
+        } catch (Exception e) {
+            log.error("Échec du job {}", idJob, e);
+            supprimerFichier(fichier.toString());
+            mettreAJour(idJob, job -> terminerEnEchec(job, e.getMessage()));
+        }
+    }
+
+    private void terminerEnEchec(Job job, String message) {
+        job.setStatut(StatutJob.ECHEC);
+        job.setMessage(message != null && message.length() > 1000 ? message.substring(0, 1000) : message);
+        job.setDateFin(LocalDateTime.now());
+    }
+
+    private void mettreAJour(UUID idJob, Consumer<Job> modification) {
+        jobRepository.findById(idJob).ifPresent(job -> {
+            modification.accept(job);
+            jobRepository.save(job);
+        });
+    }
+
+    private void supprimerFichier(String chemin) {
+        if (chemin == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(chemin));
+        } catch (IOException e) {
+            log.warn("Impossible de supprimer le fichier {}: {}", chemin, e.getMessage());
+        }
+    }
+
+    private Job trouverJob(UUID idJob) {
+        return jobRepository.findById(idJob)
+                .orElseThrow(() -> new RuntimeException("Job introuvable"));
+    }
+
+    private JobResponse toResponse(Job job) {
+        return JobResponse.builder()
+                .idJob(job.getIdJob())
+                .type(job.getType())
+                .statut(job.getStatut())
+                .progression(job.getProgression())
+                .message(job.getMessage())
+                .nomFichier(job.getNomFichier())
+                .contentType(job.getContentType())
+                .taille(job.getTaille())
+                .demandePar(job.getDemandePar())
+                .dateCreation(job.getDateCreation())
+                .dateDebut(job.getDateDebut())
+                .dateFin(job.getDateFin())
+                .build();
+    }
+}
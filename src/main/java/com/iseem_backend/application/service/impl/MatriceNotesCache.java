@@ -0,0 +1,47 @@
+package com.iseem_backend.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.iseem_backend.application.config.CacheConfig;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.repository.NoteRepository;
+import com.iseem_backend.application.utils.MatriceNotes;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class MatriceNotesCache {
+
+    private final Cache<String, MatriceNotes> cache;
+    private final org.springframework.cache.Cache enveloppe;
+    private final NoteRepository noteRepository;
+    private final TransactionTemplate lecture;
+
+    @SuppressWarnings("unchecked")
+    public MatriceNotesCache(CacheManager cacheManager, NoteRepository noteRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.enveloppe = Objects.requireNonNull(cacheManager.getCache(CacheConfig.MATRICES_NOTES));
+        this.cache = (Cache<String, MatriceNotes>) enveloppe.getNativeCache();
+        this.noteRepository = noteRepository;
+        this.lecture = new TransactionTemplate(transactionManager);
+        this.lecture.setReadOnly(true);
+    }
+
+    public MatriceNotes obtenir(String anneeScolaire) {
+        return cache.get(anneeScolaire, annee -> lecture.execute(status -> noteRepository.chargerMatrice(annee)));
+    }
+
+    public void enregistrer(UUID studentId, UUID moduleId, String anneeScolaire, TypeNote typeNote, BigDecimal valeur) {
+        cache.asMap().computeIfPresent(anneeScolaire,
+                (annee, matrice) -> matrice.definirNote(studentId, moduleId, typeNote, valeur) ? matrice : null);
+    }
+
+    public void invaliderTout() {
+        enveloppe.clear();
+    }
+}
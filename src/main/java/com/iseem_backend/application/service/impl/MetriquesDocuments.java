@@ -0,0 +1,77 @@
+package com.iseem_backend.application.service.impl;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class MetriquesDocuments {
+
+    public static final String PDF = "pdf";
+    public static final String XLSX = "xlsx";
+    public static final String PNG = "png";
+    public static final String ZIP = "zip";
+
+    private final MeterRegistry registry;
+
+    public byte[] mesurer(String document, String format, Supplier<byte[]> generation) {
+        Timer.Sample chrono = Timer.start(registry);
+        String resultat = "succes";
+        try {
+            byte[] contenu = generation.get();
+            taille(document, format).record(contenu.length);
+            return contenu;
+        } catch (RuntimeException e) {
+            resultat = "echec";
+            throw e;
+        } finally {
+            chrono.stop(duree(document, format, resultat));
+        }
+    }
+
+    public void mesurerFlux(String document, String format, OutputStream out, GenerationFlux generation) throws IOException {
+        Timer.Sample chrono = Timer.start(registry);
+        String resultat = "succes";
+        CountingOutputStream compteur = new CountingOutputStream(out);
+        try {
+            generation.ecrire(compteur);
+            taille(document, format).record(compteur.getByteCount());
+        } catch (IOException | RuntimeException e) {
+            resultat = "echec";
+            throw e;
+        } finally {
+            chrono.stop(duree(document, format, resultat));
+        }
+    }
+
+    private Timer duree(String document, String format, String resultat) {
+        return Timer.builder("iseem.documents.generation")
+                .description("Durée de génération des documents")
+                .tag("document", document)
+                .tag("format", format)
+                .tag("resultat", resultat)
+                .register(registry);
+    }
+
+    private DistributionSummary taille(String document, String format) {
+        return DistributionSummary.builder("iseem.documents.taille")
+                .description("Taille des documents générés")
+                .baseUnit("bytes")
+                .tag("document", document)
+                .tag("format", format)
+                .register(registry);
+    }
+
+    @FunctionalInterface
+    public interface GenerationFlux {
+        void ecrire(OutputStream out) throws IOException;
+    }
+}
@@ -36,6 +36,8 @@ public class ModuleServiceImpl implements ModuleService {
     private final DiplomeRepository diplomeRepository;
     private final StudentRepository studentRepository;
     private final ModuleMapper moduleMapper;
+    private final MatriceNotesCache matriceNotesCache;
+    private final ClassementCache classementCache;
 
     @Override
     public ModuleResponse creerModule(ModuleRequest request) {
@@ -88,6 +90,7 @@ public class ModuleServiceImpl implements ModuleService {
 
         moduleMapper.updateEntity(module, request, enseignant, diplome);
         Module savedModule = moduleRepository.save(module);
+        invaliderClassements();
 
         log.info("Module modifié avec succès: {}", savedModule.getNom());
         return moduleMapper.toResponse(savedModule);
@@ -100,6 +103,7 @@ public class ModuleServiceImpl implements ModuleService {
 
         log.info("Suppression du module: {}", module.getNom());
         moduleRepository.delete(module);
+        invaliderClassements();
     }
 
     @Override
@@ -191,6 +195,7 @@ public class ModuleServiceImpl implements ModuleService {
 
         student.getModules().add(module);
         studentRepository.save(student);
+        invaliderClassements();
 
         log.info("Étudiant {} assigné au module {}", student.getMatricule(), module.getNom());
         return moduleMapper.toResponse(module);
@@ -206,6 +211,7 @@ public class ModuleServiceImpl implements ModuleService {
 
         student.getModules().remove(module);
         studentRepository.save(student);
+        invaliderClassements();
 
         log.info("Étudiant {} retiré du module {}", student.getMatricule(), module.getNom());
         return moduleMapper.toResponse(module);
@@ -225,4 +231,9 @@ public class ModuleServiceImpl implements ModuleService {
     public long compterEtudiantsParModule(UUID moduleId) {
         return moduleRepository.countStudentsByModule(moduleId);
     }
-}
\ No newline at end of file
+
+    private void invaliderClassements() {
+        matriceNotesCache.invaliderTout();
+        classementCache.invaliderTout();
+    }
+}
@@ -2,30 +2,53 @@ package com.iseem_backend.application.service.impl;
 
 import com.iseem_backend.application.DTO.request.BulkNoteRequest;
 import com.iseem_backend.application.DTO.request.NoteRequest;
+import com.iseem_backend.application.DTO.response.BulkNoteLigneResponse;
+import com.iseem_backend.application.DTO.response.BulkNoteReportResponse;
 import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.DTO.response.ClassementResponse;
 import com.iseem_backend.application.DTO.response.NoteModuleResponse;
 import com.iseem_backend.application.DTO.response.NoteResponse;
+import com.iseem_backend.application.DTO.response.StatistiquesModuleResponse;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.StatutSaisieNote;
 import com.iseem_backend.application.enums.TypeNote;
 import com.iseem_backend.application.model.*;
 import com.iseem_backend.application.model.Module;
 import com.iseem_backend.application.repository.*;
+import com.iseem_backend.application.repository.projection.NoteResumeProjection;
 import com.iseem_backend.application.service.NoteService;
-import com.itextpdf.text.*;
-import com.itextpdf.text.pdf.PdfPCell;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
+import com.iseem_backend.application.utils.BulletinPDFGenerator;
+import com.iseem_backend.application.utils.DistributionNotes;
+import com.iseem_backend.application.utils.FusionPdf;
+import com.iseem_backend.application.utils.Progression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Service
 @RequiredArgsConstructor
@@ -33,10 +56,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class NoteServiceImpl implements NoteService {
 
+    private static final int FENETRE_RENDU = 64;
+    private static final int LOT_FUSION = 4 * FENETRE_RENDU;
+    private static final BigDecimal SEUIL_REUSSITE = BigDecimal.valueOf(10);
+
     private final NoteRepository noteRepository;
     private final StudentRepository studentRepository;
     private final ModuleRepository moduleRepository;
     private final EnseignantRepository enseignantRepository;
+    private final BulletinCache bulletinCache;
+    private final StatistiquesNotesCache statistiquesNotesCache;
+    private final ClassementCache classementCache;
+    private final MatriceNotesCache matriceNotesCache;
+    private final PlatformTransactionManager transactionManager;
+    private final MetriquesDocuments metriquesDocuments;
+    @Qualifier("executeurDocuments")
+    private final ExecutorService executeurDocuments;
 
     @Override
     @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
@@ -54,14 +89,12 @@ public class NoteServiceImpl implements NoteService {
             throw new RuntimeException("Vous n'êtes pas autorisé à noter ce module");
         }
 
-        Optional<Note> existingNote = noteRepository.findByStudentAndModuleAndTypeAndAnnee(
-                request.getStudentId(), request.getModuleId(), request.getTypeNote(), request.getAnneeScolaire());
-
-        if (existingNote.isPresent()) {
-            throw new RuntimeException("Une note existe déjà pour cet étudiant dans ce module pour ce type d'évaluation");
+        if (horsBornes(request.getValeur())) {
+            throw new RuntimeException("La note doit être comprise entre 0 et 20");
         }
 
         Note note = Note.builder()
+                .idNote(UUID.randomUUID())
                 .student(student)
                 .module(module)
                 .typeNote(request.getTypeNote())
@@ -70,26 +103,173 @@ public class NoteServiceImpl implements NoteService {
                 .saisiePar(enseignant.getUser())
                 .build();
 
-        Note savedNote = noteRepository.save(note);
-        return mapToResponse(savedNote);
+        NoteBatchRepository.NoteEnregistree enregistree = noteRepository.enregistrerEnLot(List.of(note)).get(0);
+        note.setIdNote(enregistree.idNote());
+        note.setDateCreation(enregistree.dateCreation());
+        apresCommit(ecritA -> appliquerVariation(enregistree, ecritA));
+        bulletinCache.invalider(request.getStudentId(), request.getAnneeScolaire());
+        classementCache.invalider(student.getNiveau(), request.getAnneeScolaire(), request.getTypeNote());
+        NoteResponse response = mapToResponse(note);
+        response.setStatut(enregistree.inseree() ? StatutSaisieNote.INSEREE : StatutSaisieNote.MISE_A_JOUR);
+        return response;
     }
 
     @Override
     @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
-    public List<NoteResponse> ajouterNotesEnMasse(BulkNoteRequest request, UUID enseignantId) {
-        List<NoteResponse> responses = new ArrayList<>();
-
-        for (NoteRequest noteRequest : request.getNotes()) {
-            try {
-                NoteResponse response = ajouterNote(noteRequest, enseignantId);
-                responses.add(response);
-            } catch (Exception e) {
-                log.error("Erreur lors de l'ajout de la note pour l'étudiant {}: {}",
-                        noteRequest.getStudentId(), e.getMessage());
+    public BulkNoteReportResponse ajouterNotesEnMasse(BulkNoteRequest request, UUID enseignantId) {
+        List<NoteRequest> lignes = request.getNotes() != null ? request.getNotes() : List.of();
+        Optional<Enseignant> enseignant = enseignantRepository.findById(enseignantId);
+
+        Set<UUID> studentIds = new HashSet<>();
+        Set<UUID> moduleIds = new HashSet<>();
+        for (NoteRequest ligne : lignes) {
+            if (ligne.getStudentId() != null) studentIds.add(ligne.getStudentId());
+            if (ligne.getModuleId() != null) moduleIds.add(ligne.getModuleId());
+        }
+
+        Map<UUID, Niveau> niveaux = new HashMap<>();
+        if (!studentIds.isEmpty()) {
+            studentRepository.findNiveauxParIds(studentIds)
+                    .forEach(etudiant -> niveaux.put(etudiant.getUserId(), etudiant.getNiveau()));
+        }
+        Set<UUID> etudiantsExistants = niveaux.keySet();
+        Map<UUID, Module> modules = moduleIds.isEmpty() ? Map.of()
+                : moduleRepository.findAllByIdWithEnseignant(moduleIds).stream()
+                .collect(Collectors.toMap(Module::getIdModule, m -> m));
+
+        Map<UUID, Boolean> modulesAutorises = new HashMap<>();
+        for (Module module : modules.values()) {
+            modulesAutorises.put(module.getIdModule(), module.getEnseignant() != null
+                    && module.getEnseignant().getEnseignantId().equals(enseignantId));
+        }
+
+        User saisiePar = enseignant.map(Enseignant::getUser).orElse(null);
+        List<Note> aEnregistrer = new ArrayList<>();
+        Map<NoteCle, BulkNoteLigneResponse> lignesAcceptees = new HashMap<>();
+        List<BulkNoteLigneResponse> rapport = new ArrayList<>(lignes.size());
+
+        for (int i = 0; i < lignes.size(); i++) {
+            NoteRequest ligne = lignes.get(i);
+            String erreur = validerLigne(ligne, enseignant.isPresent(), etudiantsExistants, modules,
+                    modulesAutorises, lignesAcceptees.keySet());
+
+            BulkNoteLigneResponse resultat = BulkNoteLigneResponse.builder()
+                    .ligne(i)
+                    .studentId(ligne.getStudentId())
+                    .moduleId(ligne.getModuleId())
+                    .typeNote(ligne.getTypeNote())
+                    .anneeScolaire(ligne.getAnneeScolaire())
+                    .build();
+
+            if (erreur != null) {
+                log.error("Erreur lors de l'ajout de la note pour l'étudiant {}: {}", ligne.getStudentId(), erreur);
+                resultat.setStatut(StatutSaisieNote.REJETEE);
+                resultat.setMessage(erreur);
+            } else {
+                NoteCle cle = new NoteCle(ligne.getStudentId(), ligne.getModuleId(),
+                        ligne.getTypeNote(), ligne.getAnneeScolaire());
+                lignesAcceptees.put(cle, resultat);
+                Note note = Note.builder()
+                        .idNote(UUID.randomUUID())
+                        .student(studentRepository.getReferenceById(ligne.getStudentId()))
+                        .module(modules.get(ligne.getModuleId()))
+                        .typeNote(ligne.getTypeNote())
+                        .valeur(ligne.getValeur())
+                        .anneeScolaire(ligne.getAnneeScolaire())
+                        .saisiePar(saisiePar)
+                        .build();
+                aEnregistrer.add(note);
+                bulletinCache.invalider(ligne.getStudentId(), ligne.getAnneeScolaire());
             }
+            rapport.add(resultat);
         }
 
-        return responses;
+        int inserees = 0;
+        List<NoteBatchRepository.NoteEnregistree> enregistrees = noteRepository.enregistrerEnLot(aEnregistrer);
+        for (NoteBatchRepository.NoteEnregistree enregistree : enregistrees) {
+            BulkNoteLigneResponse resultat = lignesAcceptees.get(new NoteCle(enregistree.studentId(),
+                    enregistree.moduleId(), enregistree.typeNote(), enregistree.anneeScolaire()));
+            resultat.setIdNote(enregistree.idNote());
+            resultat.setStatut(enregistree.inseree() ? StatutSaisieNote.INSEREE : StatutSaisieNote.MISE_A_JOUR);
+            if (enregistree.inseree()) {
+                inserees++;
+            }
+        }
+        apresCommit(ecritA -> enregistrees.forEach(enregistree -> appliquerVariation(enregistree, ecritA)));
+        enregistrees.stream()
+                .map(enregistree -> new Cohorte(niveaux.get(enregistree.studentId()), enregistree.anneeScolaire(),
+                        enregistree.typeNote()))
+                .distinct()
+                .forEach(cohorte -> classementCache.invalider(cohorte.niveau(), cohorte.anneeScolaire(), cohorte.typeNote()));
+        int misesAJour = aEnregistrer.size() - inserees;
+        int rejetees = lignes.size() - aEnregistrer.size();
+        log.info("Saisie en masse: {} notes insérées, {} mises à jour, {} rejetées", inserees, misesAJour, rejetees);
+
+        return BulkNoteReportResponse.builder()
+                .total(lignes.size())
+                .inserees(inserees)
+                .misesAJour(misesAJour)
+                .rejetees(rejetees)
+                .lignes(rapport)
+                .build();
+    }
+
+    private String validerLigne(NoteRequest ligne, boolean enseignantExiste, Set<UUID> etudiantsExistants,
+                                Map<UUID, Module> modules, Map<UUID, Boolean> modulesAutorises,
+                                Set<NoteCle> clesVues) {
+        if (ligne.getStudentId() == null || ligne.getModuleId() == null
+                || ligne.getTypeNote() == null || ligne.getAnneeScolaire() == null) {
+            return "Champs obligatoires manquants";
+        }
+        if (horsBornes(ligne.getValeur())) {
+            return "La note doit être comprise entre 0 et 20";
+        }
+        if (!etudiantsExistants.contains(ligne.getStudentId())) {
+            return "Étudiant introuvable";
+        }
+        if (!modules.containsKey(ligne.getModuleId())) {
+            return "Module introuvable";
+        }
+        if (!enseignantExiste) {
+            return "Enseignant introuvable";
+        }
+        if (!modulesAutorises.get(ligne.getModuleId())) {
+            return "Vous n'êtes pas autorisé à noter ce module";
+        }
+        if (clesVues.contains(new NoteCle(ligne.getStudentId(), ligne.getModuleId(),
+                ligne.getTypeNote(), ligne.getAnneeScolaire()))) {
+            return "Note en double dans la requête pour cet étudiant, ce module et ce type d'évaluation";
+        }
+        return null;
+    }
+
+    private void appliquerVariation(NoteBatchRepository.NoteEnregistree enregistree, long ecritA) {
+        appliquerVariation(enregistree.studentId(), enregistree.moduleId(), enregistree.anneeScolaire(),
+                enregistree.typeNote(), enregistree.valeurPrecedente(), enregistree.valeur(), ecritA);
+    }
+
+    private void appliquerVariation(UUID studentId, UUID moduleId, String anneeScolaire, TypeNote typeNote,
+                                    BigDecimal ancienneValeur, BigDecimal nouvelleValeur, long ecritA) {
+        statistiquesNotesCache.remplacer(moduleId, anneeScolaire, typeNote, ancienneValeur, nouvelleValeur, ecritA);
+        matriceNotesCache.enregistrer(studentId, moduleId, anneeScolaire, typeNote, nouvelleValeur);
+    }
+
+    private void apresCommit(LongConsumer action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(StatistiquesNotesCache.ECRITURE_INCONNUE);
+            return;
+        }
+        long ecritA = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.accept(ecritA);
+            }
+        });
+    }
+
+    private boolean horsBornes(BigDecimal valeur) {
+        return valeur != null && (valeur.compareTo(BigDecimal.ZERO) < 0 || valeur.compareTo(BigDecimal.valueOf(20)) > 0);
     }
 
     @Override
@@ -105,11 +285,27 @@ public class NoteServiceImpl implements NoteService {
             throw new RuntimeException("Vous n'êtes pas autorisé à modifier cette note");
         }
 
+        String ancienneAnnee = note.getAnneeScolaire();
+        TypeNote ancienType = note.getTypeNote();
+        BigDecimal ancienneValeur = note.getValeur();
         note.setValeur(request.getValeur());
         note.setTypeNote(request.getTypeNote());
         note.setAnneeScolaire(request.getAnneeScolaire());
 
         Note savedNote = noteRepository.save(note);
+        UUID studentId = note.getStudent().getUserId();
+        UUID moduleId = note.getModule().getIdModule();
+        TypeNote nouveauType = note.getTypeNote();
+        BigDecimal nouvelleValeur = note.getValeur();
+        apresCommit(ecritA -> {
+            appliquerVariation(studentId, moduleId, ancienneAnnee, ancienType, ancienneValeur, null, ecritA);
+            appliquerVariation(studentId, moduleId, request.getAnneeScolaire(), nouveauType, null, nouvelleValeur, ecritA);
+        });
+        Niveau niveau = note.getStudent().getNiveau();
+        bulletinCache.invalider(studentId, ancienneAnnee);
+        classementCache.invalider(niveau, ancienneAnnee, ancienType);
+        bulletinCache.invalider(studentId, request.getAnneeScolaire());
+        classementCache.invalider(niveau, request.getAnneeScolaire(), nouveauType);
         return mapToResponse(savedNote);
     }
 
@@ -127,41 +323,132 @@ public class NoteServiceImpl implements NoteService {
         }
 
         noteRepository.delete(note);
+        UUID studentId = note.getStudent().getUserId();
+        UUID moduleId = note.getModule().getIdModule();
+        apresCommit(ecritA -> appliquerVariation(studentId, moduleId, note.getAnneeScolaire(), note.getTypeNote(),
+                note.getValeur(), null, ecritA));
+        bulletinCache.invalider(studentId, note.getAnneeScolaire());
+        classementCache.invalider(note.getStudent().getNiveau(), note.getAnneeScolaire(), note.getTypeNote());
     }
 
     @Override
     @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
     @Transactional(readOnly = true)
     public List<NoteResponse> obtenirNotesParModule(UUID moduleId, String anneeScolaire) {
-        List<Note> notes = noteRepository.findByModuleWithDetails(moduleId, anneeScolaire);
-        return notes.stream().map(this::mapToResponse).collect(Collectors.toList());
+        return noteRepository.findResumesByModule(moduleId, anneeScolaire).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
+    @Transactional(readOnly = true)
+    public StatistiquesModuleResponse obtenirStatistiquesModule(UUID moduleId, String anneeScolaire, TypeNote typeNote) {
+        Module module = moduleRepository.findById(moduleId)
+                .orElseThrow(() -> new RuntimeException("Module introuvable"));
+
+        DistributionNotes distribution = statistiquesNotesCache.obtenir(moduleId, anneeScolaire, typeNote,
+                () -> noteRepository.compterParValeur(moduleId, anneeScolaire));
+        return StatistiquesModuleResponse.builder()
+                .moduleId(moduleId)
+                .moduleNom(module.getNom())
+                .typeNote(typeNote)
+                .anneeScolaire(anneeScolaire)
+                .effectif(distribution.getEffectif())
+                .moyenne(distribution.moyenne())
+                .mediane(distribution.quantile(0.5))
+                .premierQuartile(distribution.quantile(0.25))
+                .troisiemeQuartile(distribution.quantile(0.75))
+                .minimum(distribution.minimum())
+                .maximum(distribution.maximum())
+                .ecartType(distribution.ecartType())
+                .tauxReussite(distribution.tauxAuMoins(SEUIL_REUSSITE))
+                .histogramme(distribution.histogramme())
+                .build();
     }
 
     @Override
     @PreAuthorize("hasRole('ETUDIANT') or hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
     @Transactional(readOnly = true)
     public List<NoteResponse> obtenirNotesParEtudiant(UUID studentId, String anneeScolaire) {
-        List<Note> notes = noteRepository.findByStudentWithDetails(studentId, anneeScolaire);
-        return notes.stream().map(this::mapToResponse).collect(Collectors.toList());
+        return noteRepository.findResumesByStudent(studentId, anneeScolaire).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
     }
 
     @Override
     @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
     @Transactional(readOnly = true)
     public List<NoteResponse> obtenirNotesParEnseignant(UUID enseignantId, String anneeScolaire) {
-        List<Note> notes = noteRepository.findByEnseignantAndAnneeScolaire(enseignantId, anneeScolaire);
-        return notes.stream().map(this::mapToResponse).collect(Collectors.toList());
+        return noteRepository.findResumesByEnseignant(enseignantId, anneeScolaire).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
     }
 
     @Override
     @PreAuthorize("hasRole('ETUDIANT') or hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BulletinResponse genererBulletin(UUID studentId, String anneeScolaire, TypeNote typeEvaluation) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        BulletinResponse bulletin = bulletinCache.obtenir(studentId, anneeScolaire, typeEvaluation,
+                () -> lecture.execute(status -> calculerBulletin(studentId, anneeScolaire, typeEvaluation)));
+        if (bulletin.getNiveau() == null || bulletin.getNiveau().isEmpty()) {
+            return bulletin;
+        }
+        return avecRang(bulletin, classementCohorte(Niveau.valueOf(bulletin.getNiveau()), anneeScolaire, typeEvaluation));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ClassementResponse> obtenirClassement(Niveau niveau, String groupe, String anneeScolaire, TypeNote typeEvaluation) {
+        List<ClassementResponse> lignes = classementCohorte(niveau, anneeScolaire, typeEvaluation).lignes();
+        if (groupe == null) {
+            return lignes;
+        }
+        return lignes.stream().filter(ligne -> groupe.equals(ligne.getGroupe())).toList();
+    }
+
+    private ClassementCache.Classement classementCohorte(Niveau niveau, String anneeScolaire, TypeNote typeEvaluation) {
+        return classementCache.obtenir(niveau, anneeScolaire, typeEvaluation,
+                () -> matriceNotesCache.obtenir(anneeScolaire).classer(niveau, typeEvaluation).stream()
+                        .map(ligne -> ClassementResponse.builder()
+                                .studentId(ligne.studentId())
+                                .matricule(ligne.matricule())
+                                .nom(ligne.nom())
+                                .prenom(ligne.prenom())
+                                .groupe(ligne.groupe())
+                                .moyenneGenerale(ligne.moyenne())
+                                .mention(calculerMention(ligne.moyenne()))
+                                .rangNiveau(ligne.rangNiveau())
+                                .effectifNiveau(ligne.effectifNiveau())
+                                .rangGroupe(ligne.rangGroupe())
+                                .effectifGroupe(ligne.effectifGroupe())
+                                .build())
+                        .toList());
+    }
+
+    private BulletinResponse avecRang(BulletinResponse bulletin, ClassementCache.Classement classement) {
+        ClassementResponse ligne = classement.parEtudiant().get(bulletin.getStudentId());
+        if (ligne == null) {
+            return bulletin;
+        }
+        return bulletin.toBuilder()
+                .rang(ligne.getRangGroupe())
+                .effectifClasse(ligne.getEffectifGroupe())
+                .build();
+    }
+
+    private BulletinResponse calculerBulletin(UUID studentId, String anneeScolaire, TypeNote typeEvaluation) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new RuntimeException("Étudiant introuvable"));
 
         List<Note> notes = noteRepository.findByStudentWithDetails(studentId, anneeScolaire);
+        return construireBulletin(student, notes, anneeScolaire, typeEvaluation);
+    }
 
+    BulletinResponse construireBulletin(Student student, List<Note> notes, String anneeScolaire, TypeNote typeEvaluation) {
         Map<UUID, List<Note>> notesByModule = notes.stream()
                 .collect(Collectors.groupingBy(note -> note.getModule().getIdModule()));
 
@@ -213,7 +500,7 @@ public class NoteServiceImpl implements NoteService {
         }
 
         return BulletinResponse.builder()
-                .studentId(studentId)
+                .studentId(student.getUserId())
                 .studentNom(student.getUser().getNom())
                 .studentPrenom(student.getUser().getPrenom())
                 .matricule(student.getMatricule())
@@ -229,12 +516,98 @@ public class NoteServiceImpl implements NoteService {
 
     @Override
     @PreAuthorize("hasRole('ETUDIANT') or hasRole('ENSEIGNANT') or hasRole('ADMINISTRATION')")
-    public byte[] exporterBulletinPDF(UUID studentId, String anneeScolaire, TypeNote typeEvaluation) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exporterBulletinPDF(UUID studentId, String anneeScolaire, TypeNote typeEvaluation, OutputStream out) {
         BulletinResponse bulletin = genererBulletin(studentId, anneeScolaire, typeEvaluation);
-        return generatePDF(bulletin);
+        try {
+            metriquesDocuments.mesurerFlux("bulletin", MetriquesDocuments.PDF, out,
+                    flux -> BulletinPDFGenerator.ecrire(List.of(bulletin), flux));
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération du bulletin PDF", e);
+        }
     }
 
-    private BigDecimal calculerMoyenneModule(NoteModuleResponse module, TypeNote typeEvaluation) {
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exporterBulletinsPromotion(Niveau niveau, String groupe, String anneeScolaire, TypeNote typeEvaluation,
+                                           boolean fusionner, OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        List<BulletinResponse> calcules = lecture.execute(status -> {
+            List<Student> students = studentRepository.findCohorte(niveau, groupe);
+            Map<UUID, List<Note>> notesParEtudiant = noteRepository.findByCohorteWithDetails(niveau, groupe, anneeScolaire).stream()
+                    .collect(Collectors.groupingBy(note -> note.getStudent().getUserId()));
+            return students.stream()
+                    .map(student -> construireBulletin(student, notesParEtudiant.getOrDefault(student.getUserId(), List.of()),
+                            anneeScolaire, typeEvaluation))
+                    .toList();
+        });
+
+        if (calcules == null || calcules.isEmpty()) {
+            throw new RuntimeException("Aucun étudiant trouvé pour cette promotion");
+        }
+        ClassementCache.Classement classement = classementCohorte(niveau, anneeScolaire, typeEvaluation);
+        List<BulletinResponse> bulletins = calcules.stream().map(bulletin -> avecRang(bulletin, classement)).toList();
+        log.info("Génération de {} bulletins pour {} {} ({})", bulletins.size(), niveau, groupe, anneeScolaire);
+
+        try {
+            metriquesDocuments.mesurerFlux("bulletins_promotion", fusionner ? MetriquesDocuments.PDF : MetriquesDocuments.ZIP, out, flux -> {
+                if (fusionner) {
+                    Iterable<List<BulletinResponse>> lots = () -> IntStream.iterate(0, debut -> debut < bulletins.size(), debut -> debut + LOT_FUSION)
+                            .mapToObj(debut -> bulletins.subList(debut, Math.min(debut + LOT_FUSION, bulletins.size())))
+                            .iterator();
+                    FusionPdf.ecrire(Progression.suivre(lots, bulletins.size(), progression), FENETRE_RENDU,
+                            BulletinPDFGenerator::generatePDF, flux, executeurDocuments);
+                } else {
+                    ecrireZip(bulletins, flux, progression);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération des bulletins de la promotion", e);
+        }
+    }
+
+    private void ecrireZip(List<BulletinResponse> bulletins, OutputStream out, IntConsumer progression) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (int debut = 0; debut < bulletins.size(); debut += FENETRE_RENDU) {
+            Progression.signaler(debut, bulletins.size(), progression);
+            List<BulletinResponse> fenetre = bulletins.subList(debut, Math.min(debut + FENETRE_RENDU, bulletins.size()));
+            List<byte[]> pdfs = rendreEnParallele(fenetre);
+            for (int i = 0; i < fenetre.size(); i++) {
+                zip.putNextEntry(new ZipEntry(nomFichierBulletin(fenetre.get(i))));
+                zip.write(pdfs.get(i));
+                zip.closeEntry();
+            }
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private List<byte[]> rendreEnParallele(List<BulletinResponse> bulletins) {
+        List<Callable<byte[]>> taches = bulletins.stream()
+                .<Callable<byte[]>>map(bulletin -> () -> metriquesDocuments.mesurer("bulletin", MetriquesDocuments.PDF, () -> BulletinPDFGenerator.generatePDF(bulletin)))
+                .toList();
+        try {
+            List<byte[]> pdfs = new ArrayList<>(taches.size());
+            for (Future<byte[]> rendu : executeurDocuments.invokeAll(taches)) {
+                pdfs.add(rendu.get());
+            }
+            return pdfs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Génération des bulletins interrompue", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Erreur lors de la génération du bulletin PDF", e.getCause());
+        }
+    }
+
+    private String nomFichierBulletin(BulletinResponse bulletin) {
+        String base = bulletin.getMatricule() != null ? bulletin.getMatricule() : bulletin.getStudentId().toString();
+        return "bulletin_" + base.replaceAll("[^A-Za-z0-9_-]", "_") + ".pdf";
+    }
+
+    BigDecimal calculerMoyenneModule(NoteModuleResponse module, TypeNote typeEvaluation) {
         switch (typeEvaluation) {
             case C1 -> {
                 return module.getNoteC1();
@@ -258,7 +631,7 @@ public class NoteServiceImpl implements NoteService {
         }
     }
 
-    private String calculerMention(BigDecimal moyenne) {
+    String calculerMention(BigDecimal moyenne) {
         if (moyenne == null) return "Non calculée";
         if (moyenne.compareTo(BigDecimal.valueOf(16)) >= 0) return "Très Bien";
         if (moyenne.compareTo(BigDecimal.valueOf(14)) >= 0) return "Bien";
@@ -267,121 +640,6 @@ public class NoteServiceImpl implements NoteService {
         return "Insuffisant";
     }
 
-    private byte[] generatePDF(BulletinResponse bulletin) {
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            Document document = new Document(PageSize.A4, 40, 40, 50, 50);
-            PdfWriter.getInstance(document, baos);
-            document.open();
-
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, BaseColor.BLACK);
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, BaseColor.BLACK);
-            Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 10, BaseColor.BLACK);
-            Font boldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.BLACK);
-
-            Paragraph title = new Paragraph("BULLETIN SCOLAIRE", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            title.setSpacingAfter(20);
-            document.add(title);
-
-            Paragraph infosGenerales = new Paragraph();
-            infosGenerales.add(new Chunk("Année Scolaire: ", boldFont));
-            infosGenerales.add(new Chunk(bulletin.getAnneeScolaire() + "\n", normalFont));
-            infosGenerales.add(new Chunk("Type d'évaluation: ", boldFont));
-            infosGenerales.add(new Chunk(bulletin.getTypeEvaluation() + "\n", normalFont));
-            infosGenerales.setSpacingAfter(15);
-            document.add(infosGenerales);
-
-            PdfPTable studentTable = new PdfPTable(2);
-            studentTable.setWidthPercentage(100);
-            studentTable.setSpacingAfter(20);
-
-            addCell(studentTable, "Nom et Prénom:", boldFont);
-            addCell(studentTable, bulletin.getStudentNom() + " " + bulletin.getStudentPrenom(), normalFont);
-
-            addCell(studentTable, "N° Inscription:", boldFont);
-            addCell(studentTable, bulletin.getMatricule(), normalFont);
-
-            addCell(studentTable, "Niveau:", boldFont);
-            addCell(studentTable, bulletin.getNiveau(), normalFont);
-
-            document.add(studentTable);
-
-            PdfPTable notesTable = new PdfPTable(7);
-            notesTable.setWidthPercentage(100);
-            notesTable.setWidths(new float[]{3f, 1.2f, 1.2f, 1.2f, 1.2f, 1.2f, 1.5f});
-            notesTable.setSpacingAfter(15);
-
-            addHeaderCell(notesTable, "Matière", headerFont);
-            addHeaderCell(notesTable, "Coef.", headerFont);
-            addHeaderCell(notesTable, "C1", headerFont);
-            addHeaderCell(notesTable, "C2", headerFont);
-            addHeaderCell(notesTable, "Ex. Th", headerFont);
-            addHeaderCell(notesTable, "Ex. Pr", headerFont);
-            addHeaderCell(notesTable, "Moyenne", headerFont);
-
-            for (NoteModuleResponse note : bulletin.getNotes()) {
-                addCell(notesTable, note.getModuleNom(), normalFont);
-                addCell(notesTable, note.getCoefficient() != null ? String.valueOf(note.getCoefficient()) : "-", normalFont);
-                addCell(notesTable, note.getNoteC1() != null ? String.valueOf(note.getNoteC1()) : "-", normalFont);
-                addCell(notesTable, note.getNoteC2() != null ? String.valueOf(note.getNoteC2()) : "-", normalFont);
-                addCell(notesTable, note.getNoteExamenTh() != null ? String.valueOf(note.getNoteExamenTh()) : "-", normalFont);
-                addCell(notesTable, note.getNoteExamenPr() != null ? String.valueOf(note.getNoteExamenPr()) : "-", normalFont);
-                addCell(notesTable, note.getMoyenneModule() != null ? String.valueOf(note.getMoyenneModule()) : "-", normalFont);
-            }
-
-            document.add(notesTable);
-
-            PdfPTable summaryTable = new PdfPTable(2);
-            summaryTable.setWidthPercentage(60);
-            summaryTable.setHorizontalAlignment(Element.ALIGN_RIGHT);
-            summaryTable.setSpacingAfter(20);
-
-            addCell(summaryTable, "Moyenne Générale:", boldFont);
-            addCell(summaryTable, bulletin.getMoyenneGenerale() != null ? bulletin.getMoyenneGenerale() + " / 20" : "-", boldFont);
-
-            addCell(summaryTable, "Mention:", boldFont);
-            addCell(summaryTable, bulletin.getMention(), boldFont);
-
-            document.add(summaryTable);
-
-            Paragraph prof = new Paragraph();
-            prof.add(new Chunk("Professeur Responsable: ", boldFont));
-            prof.add(new Chunk(bulletin.getProfesseurResponsable() != null && !bulletin.getProfesseurResponsable().isEmpty()
-                    ? bulletin.getProfesseurResponsable() : "Non assigné", normalFont));
-            prof.setSpacingAfter(30);
-            document.add(prof);
-
-            Paragraph signature = new Paragraph("Signature: ____________________", normalFont);
-            signature.setAlignment(Element.ALIGN_RIGHT);
-            document.add(signature);
-
-            document.close();
-            return baos.toByteArray();
-
-        } catch (Exception e) {
-            log.error("Erreur lors de la génération du PDF: ", e);
-            throw new RuntimeException("Erreur lors de la génération du bulletin PDF", e);
-        }
-    }
-
-    private void addHeaderCell(PdfPTable table, String text, Font font) {
-        PdfPCell cell = new PdfPCell(new Phrase(text, font));
-        cell.setBackgroundColor(new BaseColor(200, 200, 200));
-        cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-        cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-        cell.setPadding(8);
-        table.addCell(cell);
-    }
-
-    private void addCell(PdfPTable table, String text, Font font) {
-        PdfPCell cell = new PdfPCell(new Phrase(text, font));
-        cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-        cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-        cell.setPadding(5);
-        table.addCell(cell);
-    }
-
     private NoteResponse mapToResponse(Note note) {
         return NoteResponse.builder()
                 .idNote(note.getIdNote())
@@ -399,4 +657,28 @@ public class NoteServiceImpl implements NoteService {
                 .saisiePar(note.getSaisiePar() != null ? note.getSaisiePar().getEmail() : "")
                 .build();
     }
-}
\ No newline at end of file
+
+    private NoteResponse mapToResponse(NoteResumeProjection note) {
+        return NoteResponse.builder()
+                .idNote(note.getIdNote())
+                .studentId(note.getStudentId())
+                .studentNom(note.getStudentNom())
+                .studentPrenom(note.getStudentPrenom())
+                .matricule(note.getMatricule())
+                .moduleId(note.getModuleId())
+                .moduleNom(note.getModuleNom())
+                .typeNote(note.getTypeNote())
+                .valeur(note.getValeur())
+                .anneeScolaire(note.getAnneeScolaire())
+                .dateCreation(note.getDateCreation())
+                .dateModification(note.getDateModification())
+                .saisiePar(note.getSaisiePar() != null ? note.getSaisiePar() : "")
+                .build();
+    }
+
+    private record NoteCle(UUID studentId, UUID moduleId, TypeNote typeNote, String anneeScolaire) {
+    }
+
+    private record Cohorte(Niveau niveau, String anneeScolaire, TypeNote typeNote) {
+    }
+}
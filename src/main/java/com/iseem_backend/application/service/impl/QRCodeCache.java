@@ -0,0 +1,36 @@
+package com.iseem_backend.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.iseem_backend.application.DTO.response.QRCodeResponse;
+import com.iseem_backend.application.config.CacheConfig;
+import com.iseem_backend.application.utils.QRCodes;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class QRCodeCache {
+
+    private static final int TAILLE = 250;
+
+    private final Cache<String, byte[]> cache;
+    private final MetriquesDocuments metriquesDocuments;
+
+    @SuppressWarnings("unchecked")
+    public QRCodeCache(CacheManager cacheManager, MetriquesDocuments metriquesDocuments) {
+        this.metriquesDocuments = metriquesDocuments;
+        this.cache = (Cache<String, byte[]>) Objects.requireNonNull(
+                cacheManager.getCache(CacheConfig.QR_CODES)).getNativeCache();
+    }
+
+    public QRCodeResponse obtenir(String contenu) {
+        String empreinte = QRCodes.empreinte(contenu);
+        byte[] image = cache.get(empreinte, cle -> metriquesDocuments.mesurer("qr_code_diplome", MetriquesDocuments.PNG,
+                () -> QRCodes.png(contenu, TAILLE)));
+        return QRCodeResponse.builder()
+                .empreinte(empreinte)
+                .image(image)
+                .build();
+    }
+}
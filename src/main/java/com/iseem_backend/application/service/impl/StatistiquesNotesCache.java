@@ -0,0 +1,75 @@
+package com.iseem_backend.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.iseem_backend.application.config.CacheConfig;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.repository.projection.EffectifNoteProjection;
+import com.iseem_backend.application.utils.DistributionNotes;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class StatistiquesNotesCache {
+
+    public static final long ECRITURE_INCONNUE = Long.MIN_VALUE;
+
+    private final Cache<StatistiquesCle, Statistiques> cache;
+
+    @SuppressWarnings("unchecked")
+    public StatistiquesNotesCache(CacheManager cacheManager) {
+        this.cache = (Cache<StatistiquesCle, Statistiques>) Objects.requireNonNull(
+                cacheManager.getCache(CacheConfig.STATISTIQUES_NOTES)).getNativeCache();
+    }
+
+    public DistributionNotes obtenir(UUID moduleId, String anneeScolaire, TypeNote typeNote,
+                                     Supplier<List<EffectifNoteProjection>> chargement) {
+        Statistiques statistiques = cache.get(new StatistiquesCle(moduleId, anneeScolaire),
+                cle -> new Statistiques(charger(chargement.get()), System.nanoTime()));
+        DistributionNotes resultat = new DistributionNotes();
+        statistiques.distributions().forEach((type, distribution) -> {
+            if (typeNote == null || typeNote == type) {
+                resultat.fusionner(distribution);
+            }
+        });
+        return resultat;
+    }
+
+    public void remplacer(UUID moduleId, String anneeScolaire, TypeNote typeNote,
+                          BigDecimal ancienneValeur, BigDecimal nouvelleValeur, long ecritA) {
+        if (Objects.equals(ancienneValeur, nouvelleValeur)) {
+            return;
+        }
+        cache.asMap().computeIfPresent(new StatistiquesCle(moduleId, anneeScolaire), (cle, statistiques) -> {
+            if (ecritA == ECRITURE_INCONNUE || statistiques.chargeA() - ecritA >= 0) {
+                return null;
+            }
+            statistiques.distributions().get(typeNote).remplacer(ancienneValeur, nouvelleValeur);
+            return statistiques;
+        });
+    }
+
+    private Map<TypeNote, DistributionNotes> charger(List<EffectifNoteProjection> effectifs) {
+        Map<TypeNote, DistributionNotes> distributions = new EnumMap<>(TypeNote.class);
+        for (TypeNote type : TypeNote.values()) {
+            distributions.put(type, new DistributionNotes());
+        }
+        for (EffectifNoteProjection effectif : effectifs) {
+            distributions.get(effectif.getTypeNote()).ajouter(effectif.getValeur(), effectif.getEffectif());
+        }
+        return distributions;
+    }
+
+    private record Statistiques(Map<TypeNote, DistributionNotes> distributions, long chargeA) {
+    }
+
+    private record StatistiquesCle(UUID moduleId, String anneeScolaire) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.service.StockageFichierService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class StockageFichierServiceImpl implements StockageFichierService {
+
+    private static final Pattern CLE = Pattern.compile("[0-9a-f]{64}");
+
+    @Value("${iseem.fichiers.repertoire:data/fichiers}")
+    private String repertoire;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparer() throws IOException {
+        Files.createDirectories(temporaires());
+    }
+
+    @Override
+    public String stocker(InputStream contenu) throws IOException {
+        Path temporaire = Files.createTempFile(Files.createDirectories(temporaires()), "depot-", ".tmp");
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temporaire), sha256)) {
+                contenu.transferTo(out);
+            }
+            String cle = HexFormat.of().formatHex(sha256.digest());
+            Path cible = chemin(cle);
+            if (Files.exists(cible)) {
+                return cle;
+            }
+            Files.createDirectories(cible.getParent());
+            Files.move(temporaire, cible, StandardCopyOption.ATOMIC_MOVE);
+            return cle;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        } finally {
+            Files.deleteIfExists(temporaire);
+        }
+    }
+
+    @Override
+    public Resource lire(String cle) {
+        Path chemin = chemin(cle);
+        if (!Files.exists(chemin)) {
+            throw new RuntimeException("Fichier introuvable: " + cle);
+        }
+        return new FileSystemResource(chemin);
+    }
+
+    @Override
+    public boolean existe(String cle) {
+        return Files.exists(chemin(cle));
+    }
+
+    @Override
+    public List<String> clesAnterieures(Instant limite) throws IOException {
+        Path racine = Paths.get(repertoire);
+        if (!Files.isDirectory(racine)) {
+            return List.of();
+        }
+        List<String> cles = new ArrayList<>();
+        try (Stream<Path> fichiers = Files.walk(racine, 2)) {
+            for (Path fichier : (Iterable<Path>) fichiers::iterator) {
+                if (!Files.isRegularFile(fichier) || Files.getLastModifiedTime(fichier).toInstant().isAfter(limite)) {
+                    continue;
+                }
+                String nom = fichier.getFileName().toString();
+                if (fichier.getParent().equals(temporaires())) {
+                    Files.deleteIfExists(fichier);
+                } else if (CLE.matcher(nom).matches()) {
+                    cles.add(nom);
+                }
+            }
+        }
+        return cles;
+    }
+
+    @Override
+    public void supprimer(String cle) {
+        try {
+            Files.deleteIfExists(chemin(cle));
+        } catch (IOException e) {
+            log.warn("Suppression impossible du fichier {}", cle, e);
+        }
+    }
+
+    private Path chemin(String cle) {
+        if (cle == null || !CLE.matcher(cle).matches()) {
+            throw new IllegalArgumentException("Clé de fichier invalide: " + cle);
+        }
+        return Paths.get(repertoire).resolve(cle.substring(0, 2)).resolve(cle);
+    }
+
+    private Path temporaires() {
+        return Paths.get(repertoire).resolve("tmp");
+    }
+}
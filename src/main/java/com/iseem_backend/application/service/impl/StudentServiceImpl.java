@@ -2,6 +2,8 @@ package com.iseem_backend.application.service.impl;
 
 import com.iseem_backend.application.DTO.request.StudentRequest;
 import com.iseem_backend.application.DTO.request.CustomFieldRequest;
+import com.iseem_backend.application.DTO.response.EtudiantResumeResponse;
+import com.iseem_backend.application.DTO.response.PageCurseurResponse;
 import com.iseem_backend.application.DTO.response.StudentResponse;
 import com.iseem_backend.application.mapper.StudentMapper;
 import com.iseem_backend.application.model.CustomField;
@@ -10,22 +12,42 @@ import com.iseem_backend.application.model.Student;
 import com.iseem_backend.application.model.User;
 import com.iseem_backend.application.repository.StudentRepository;
 import com.iseem_backend.application.repository.UserRepository;
+import com.iseem_backend.application.repository.projection.EtudiantResumeProjection;
+import com.iseem_backend.application.service.ImportProgressionService;
 import com.iseem_backend.application.service.StudentService;
 import com.iseem_backend.application.utils.CardGenerator;
 import com.iseem_backend.application.utils.ExcelUtils;
 import com.iseem_backend.application.enums.Role;
+import com.iseem_backend.application.utils.KeysetPages;
+import com.iseem_backend.application.utils.LigneImportee;
+import com.iseem_backend.application.utils.Progression;
+import com.iseem_backend.application.utils.ProgressionImport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +57,30 @@ public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
     private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ImportProgressionService importProgressionService;
+    private final EtapeHachageMotsDePasse etapeHachage;
+    private final MetriquesDocuments metriquesDocuments;
+    private final ClassementCache classementCache;
+    private final BulletinCache bulletinCache;
+    private final MatriceNotesCache matriceNotesCache;
+    @Qualifier("executeurDocuments")
+    private final ExecutorService executeurDocuments;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int TAILLE_MAX_RECHERCHE = 100;
+    private static final String SEPARATEUR_CURSEUR = "\u001F";
+
+    @Value("${iseem.import.chunk-size:500}")
+    private int tailleLotImport;
+
+    @Value("${iseem.cartes.photos-dir:data/photos}")
+    private String repertoirePhotos;
+
+    @Value("${iseem.cartes.url-verification:https://iseem.ma/verification/etudiants/}")
+    private String urlVerificationCartes;
 
     private Set<CustomField> mapCustomFieldsToEntity(Set<CustomFieldRequest> requests, Student student) {
         if (requests == null) return new HashSet<>();
@@ -71,6 +117,7 @@ public class StudentServiceImpl implements StudentService {
         userRepository.save(user);
 
         Student savedStudent = studentRepository.save(student);
+        invaliderClassements();
         return studentMapper.toDto(savedStudent);
     }
 
@@ -96,6 +143,8 @@ public class StudentServiceImpl implements StudentService {
         }
 
         Student updated = studentRepository.save(student);
+        bulletinCache.invaliderEtudiant(id);
+        invaliderClassements();
         return studentMapper.toDto(updated);
     }
 
@@ -111,6 +160,8 @@ public class StudentServiceImpl implements StudentService {
 
         user.setRole(Role.ETUDIANT);
         userRepository.save(user);
+        bulletinCache.invaliderEtudiant(id);
+        invaliderClassements();
     }
 
     @Override
@@ -152,61 +203,142 @@ public class StudentServiceImpl implements StudentService {
     @Override
     @Transactional(readOnly = true)
     @PreAuthorize("hasAnyRole('ADMINISTRATION','ENSEIGNANT')")
-    public List<StudentResponse> getStudentsForTeacher(UUID teacherId) {
-        List<Student> students = studentRepository.findAll(); // fetch all students
-
-        return students.stream()
-                .filter(student -> student.getModules().stream()
-                        .anyMatch(module -> module.getEnseignant() != null && module.getEnseignant().getEnseignantId().equals(teacherId)))
-                .map(studentMapper::toDto)
+    public PageCurseurResponse<EtudiantResumeResponse> rechercherEtudiants(String terme, String curseur, int taille) {
+        int limite = Math.max(1, Math.min(taille, TAILLE_MAX_RECHERCHE));
+        String[] apres = decoderCurseur(curseur);
+        List<EtudiantResumeProjection> lignes = studentRepository.rechercherApres(
+                motifRecherche(terme),
+                apres != null ? apres[0] : null,
+                apres != null ? apres[1] : null,
+                apres != null ? UUID.fromString(apres[2]) : null,
+                limite + 1);
+
+        boolean suite = lignes.size() > limite;
+        List<EtudiantResumeResponse> etudiants = lignes.stream()
+                .limit(limite)
+                .map(this::toResumeResponse)
                 .toList();
-    }
 
+        EtudiantResumeResponse dernier = suite ? etudiants.get(etudiants.size() - 1) : null;
+        return PageCurseurResponse.<EtudiantResumeResponse>builder()
+                .elements(etudiants)
+                .taille(etudiants.size())
+                .curseurSuivant(dernier != null ? encoderCurseur(dernier.getNom(), dernier.getPrenom(), dernier.getUserId()) : null)
+                .build();
+    }
 
-    @Override
-    @Transactional
-    @PreAuthorize("hasRole('ADMINISTRATION')")
-    public Map<String, Object> importerEtudiants(MultipartFile fichierExcel) {
-        List<Student> students = ExcelUtils.importStudents(fichierExcel);
+    private static String motifRecherche(String terme) {
+        if (terme == null || terme.isBlank()) {
+            return "%";
+        }
+        String echappe = terme.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + echappe + "%";
+    }
 
-        List<Student> successfulImports = new ArrayList<>();
-        List<String> duplicateEmails = new ArrayList<>();
-        List<String> errors = new ArrayList<>();
+    static String encoderCurseur(String nom, String prenom, UUID id) {
+        String brut = nom + SEPARATEUR_CURSEUR + prenom + SEPARATEUR_CURSEUR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(brut.getBytes(StandardCharsets.UTF_8));
+    }
 
-        for (Student student : students) {
-            try {
-                if (userRepository.existsByEmail(student.getUser().getEmail())) {
-                    duplicateEmails.add(student.getUser().getEmail());
-                    continue;
-                }
+    static String[] decoderCurseur(String curseur) {
+        if (curseur == null || curseur.isBlank()) {
+            return null;
+        }
+        try {
+            String brut = new String(Base64.getUrlDecoder().decode(curseur), StandardCharsets.UTF_8);
+            String[] parties = brut.split(SEPARATEUR_CURSEUR, -1);
+            if (parties.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            UUID.fromString(parties[2]);
+            return parties;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Curseur de recherche invalide");
+        }
+    }
 
-                if (studentRepository.existsByMatricule(student.getMatricule())) {
-                    duplicateEmails.add(student.getMatricule() + " (matricule)");
-                    continue;
-                }
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMINISTRATION','ENSEIGNANT')")
+    public Page<EtudiantResumeResponse> getStudentsForTeacher(UUID teacherId, UUID moduleId, String groupe, Pageable pageable) {
+        Pageable sansTri = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        String filtreGroupe = groupe == null || groupe.isBlank() ? null : groupe.trim();
+        return studentRepository.findRosterEnseignant(teacherId, moduleId, filtreGroupe, sansTri)
+                .map(this::toResumeResponse);
+    }
 
-                User savedUser = userRepository.save(student.getUser());
-                student.setUser(savedUser);
+    private EtudiantResumeResponse toResumeResponse(EtudiantResumeProjection ligne) {
+        return EtudiantResumeResponse.builder()
+                .userId(ligne.getUserId())
+                .matricule(ligne.getMatricule())
+                .nom(ligne.getNom())
+                .prenom(ligne.getPrenom())
+                .email(ligne.getEmail())
+                .niveau(ligne.getNiveau())
+                .groupe(ligne.getGroupe())
+                .build();
+    }
 
-                if (student.getCustomFields() != null) {
-                    student.setCustomFields(mapCustomFieldsToEntity(
-                            student.getCustomFields().stream().map(cf -> new CustomFieldRequest(cf.getFieldName(), cf.getFieldValue())).collect(Collectors.toSet()),
-                            student
-                    ));
+    @Override
+    @PreAuthorize("hasRole('ADMINISTRATION')")
+    public Map<String, Object> importerEtudiants(MultipartFile fichierExcel, String importId) {
+        List<String> duplicateEmails = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Set<String> emailsVus = new HashSet<>();
+        Set<String> matriculesVus = new HashSet<>();
+        int[] compteurs = {0, 0};
+        TransactionTemplate ecriture = new TransactionTemplate(transactionManager);
+        ProgressionImport progression = importProgressionService.demarrer(importId, "ETUDIANTS");
+
+        try {
+            ExcelUtils.importStudents(fichierExcel, tailleLotImport, lignes -> {
+                compteurs[0] += lignes.size();
+                progression.lignesLues(lignes.size());
+
+                Set<String> emailsExistants = userRepository.findEmailsExistants(
+                        lignes.stream().map(l -> l.entite().getUser().getEmail()).toList());
+                Set<String> matriculesExistants = studentRepository.findMatriculesExistants(
+                        lignes.stream().map(l -> l.entite().getMatricule()).toList());
+
+                List<LigneImportee<Student>> nouvelles = new ArrayList<>(lignes.size());
+                for (LigneImportee<Student> ligne : lignes) {
+                    String email = ligne.entite().getUser().getEmail();
+                    String matricule = ligne.entite().getMatricule();
+                    if (emailsExistants.contains(email) || emailsVus.contains(email)) {
+                        duplicateEmails.add(email);
+                        progression.rejete();
+                        continue;
+                    }
+                    if (matriculesExistants.contains(matricule) || matriculesVus.contains(matricule)) {
+                        duplicateEmails.add(matricule + " (matricule)");
+                        progression.rejete();
+                        continue;
+                    }
+                    emailsVus.add(email);
+                    matriculesVus.add(matricule);
+                    nouvelles.add(ligne);
                 }
 
-                Student savedStudent = studentRepository.save(student);
-                successfulImports.add(savedStudent);
-
-            } catch (Exception e) {
-                log.error("Error saving student {}: {}", student.getUser().getEmail(), e.getMessage());
-                errors.add(String.format("Error importing %s: %s", student.getUser().getEmail(), e.getMessage()));
+                List<Student> students = etapeHachage.hacher(nouvelles, Student::getUser, progression);
+                compteurs[1] += persisterLot(ecriture, students, errors, progression);
+            });
+            progression.terminer();
+        } catch (RuntimeException e) {
+            progression.echouer();
+            throw e;
+        } finally {
+            if (compteurs[1] > 0) {
+                invaliderClassements();
             }
         }
 
         Map<String, Object> result = new HashMap<>();
-        result.put("totalProcessed", students.size());
-        result.put("successfulImports", successfulImports.size());
+        result.put("importId", progression.getImportId());
+        result.put("totalProcessed", compteurs[0]);
+        result.put("successfulImports", compteurs[1]);
         result.put("duplicates", duplicateEmails.size());
         result.put("errors", errors.size());
         result.put("duplicateEmails", duplicateEmails);
@@ -215,20 +347,109 @@ public class StudentServiceImpl implements StudentService {
         return result;
     }
 
+    private int persisterLot(TransactionTemplate ecriture, List<Student> students, List<String> errors, ProgressionImport progression) {
+        if (students.isEmpty()) {
+            return 0;
+        }
+        try {
+            ecriture.executeWithoutResult(status -> {
+                students.forEach(this::persisterEtudiant);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            students.forEach(s -> progression.enregistre());
+            return students.size();
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} students rejected ({}), retrying row by row", students.size(), e.getMessage());
+        }
+
+        int enregistres = 0;
+        for (Student student : students) {
+            student.setUserId(null);
+            student.getUser().setUserId(null);
+            try {
+                ecriture.executeWithoutResult(status -> {
+                    persisterEtudiant(student);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                enregistres++;
+                progression.enregistre();
+            } catch (RuntimeException e) {
+                log.error("Error saving student {}: {}", student.getUser().getEmail(), e.getMessage());
+                errors.add(String.format("Error importing %s: %s", student.getUser().getEmail(), e.getMessage()));
+                progression.rejete();
+            }
+        }
+        return enregistres;
+    }
+
+    private void invaliderClassements() {
+        matriceNotesCache.invaliderTout();
+        classementCache.invaliderTout();
+    }
+
+    private void persisterEtudiant(Student student) {
+        User savedUser = userRepository.save(student.getUser());
+        student.setUser(savedUser);
+
+        if (student.getCustomFields() != null) {
+            student.setCustomFields(mapCustomFieldsToEntity(
+                    student.getCustomFields().stream().map(cf -> new CustomFieldRequest(cf.getFieldName(), cf.getFieldValue())).collect(Collectors.toSet()),
+                    student
+            ));
+        }
+
+        studentRepository.save(student);
+    }
+
     @Override
-    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMINISTRATION')")
-    public byte[] exporterEtudiants() {
-        List<Student> students = studentRepository.findAll();
-        return ExcelUtils.exportStudents(students);
+    public void exporterEtudiants(OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        long total = studentRepository.count();
+        try {
+            metriquesDocuments.mesurerFlux("export_etudiants", MetriquesDocuments.XLSX, out,
+                    flux -> ExcelUtils.exportStudents(flux, Progression.suivre(new KeysetPages<>(
+                            apres -> lecture.execute(status -> studentRepository.findPageApres(apres, PageRequest.of(0, KeysetPages.TAILLE_PAGE))),
+                            Student::getUserId), total, progression)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to export Excel file", e);
+        }
     }
 
     @Override
-    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMINISTRATION')")
-    public byte[] genererCartesScolaires(List<UUID> idsEtudiants) {
-        List<Student> students = studentRepository.findAllById(idsEtudiants);
-        return CardGenerator.generateCards(students);
+    public void genererCartesScolaires(List<UUID> idsEtudiants, OutputStream out, IntConsumer progression) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        List<UUID> ids = idsEtudiants.stream().distinct().toList();
+        Path photos = Path.of(repertoirePhotos);
+        Iterable<List<CardGenerator.CarteEtudiant>> lots = () -> IntStream.iterate(0, debut -> debut < ids.size(), debut -> debut + KeysetPages.TAILLE_PAGE)
+                .mapToObj(debut -> ids.subList(debut, Math.min(debut + KeysetPages.TAILLE_PAGE, ids.size())))
+                .map(lot -> lecture.execute(status -> cartes(lot, photos)))
+                .iterator();
+        try {
+            metriquesDocuments.mesurerFlux("cartes_scolaires", MetriquesDocuments.PDF, out,
+                    flux -> CardGenerator.ecrire(Progression.suivre(lots, ids.size(), progression), flux, executeurDocuments));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to generate student cards", e);
+        }
+    }
+
+    private List<CardGenerator.CarteEtudiant> cartes(List<UUID> ids, Path photos) {
+        Map<UUID, Student> parId = studentRepository.findAvecUserParIds(ids).stream()
+                .collect(Collectors.toMap(Student::getUserId, student -> student));
+        return ids.stream()
+                .map(id -> {
+                    Student student = parId.get(id);
+                    if (student == null) {
+                        throw new ResourceNotFoundException("Student not found with id: " + id);
+                    }
+                    return CardGenerator.carte(student, photos, urlVerificationCartes);
+                })
+                .toList();
     }
 
     @Override
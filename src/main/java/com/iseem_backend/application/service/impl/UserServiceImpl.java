@@ -18,6 +18,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -49,18 +50,14 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMINISTRATION')")
     public Set<UserResponse> findAllStudents() {
-        return userRepository.findAllByRole(Role.ETUDIANT).stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toSet());
+        return new HashSet<>(userRepository.findResumesByRole(Role.ETUDIANT));
     }
 
     @Override
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMINISTRATION')")
     public Set<UserResponse> findAllTeachers() {
-        return userRepository.findAllByRole(Role.ENSEIGNANT).stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toSet());
+        return new HashSet<>(userRepository.findResumesByRole(Role.ENSEIGNANT));
     }
 
     @Override
@@ -0,0 +1,235 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.DTO.response.NoteModuleResponse;
+import com.itextpdf.text.BadElementException;
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfTemplate;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public class BulletinPDFGenerator {
+
+    private static final float MARGE = 40;
+    private static final float LARGEUR_UTILE = PageSize.A4.getWidth() - 2 * MARGE;
+
+    private static final BaseFont HELVETICA = police(BaseFont.HELVETICA);
+    private static final BaseFont HELVETICA_GRAS = police(BaseFont.HELVETICA_BOLD);
+    private static final Font NORMAL = new Font(HELVETICA, 10, Font.NORMAL, BaseColor.BLACK);
+    private static final Font GRAS = new Font(HELVETICA_GRAS, 10, Font.NORMAL, BaseColor.BLACK);
+    private static final BaseColor GRIS = new BaseColor(200, 200, 200);
+
+    private static final String TITRE = "BULLETIN SCOLAIRE";
+    private static final String SIGNATURE = "Signature: ____________________";
+    private static final String[] COLONNES = {"Matière", "Coef.", "C1", "C2", "Ex. Th", "Ex. Pr", "Moyenne"};
+    private static final float[] LARGEURS = {3f, 1.2f, 1.2f, 1.2f, 1.2f, 1.2f, 1.5f};
+    private static final float[] BORDS = bords();
+    private static final float HAUTEUR_TITRE = 24;
+    private static final float HAUTEUR_ENTETE = 32;
+    private static final float HAUTEUR_SIGNATURE = 14;
+    private static final float LARGEUR_SIGNATURE = HELVETICA.getWidthPoint(SIGNATURE, 10);
+
+    private BulletinPDFGenerator() {
+    }
+
+    public static byte[] generatePDF(BulletinResponse bulletin) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            ecrire(List.of(bulletin), baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération du bulletin PDF", e);
+        }
+    }
+
+    public static byte[] generatePDF(List<BulletinResponse> bulletins) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ecrire(bulletins, baos);
+        return baos.toByteArray();
+    }
+
+    public static void ecrire(List<BulletinResponse> bulletins, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4, MARGE, MARGE, 50, 50);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+            Gabarits gabarits = compiler(writer.getDirectContent());
+            for (int i = 0; i < bulletins.size(); i++) {
+                if (i > 0) {
+                    document.newPage();
+                }
+                rendre(document, gabarits, bulletins.get(i));
+            }
+            document.close();
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void rendre(Document document, Gabarits gabarits, BulletinResponse bulletin) throws DocumentException {
+        Paragraph title = new Paragraph(new Chunk(gabarits.titre(), 0, 0, true));
+        title.setAlignment(Element.ALIGN_CENTER);
+        title.setSpacingAfter(20);
+        document.add(title);
+
+        Paragraph infosGenerales = new Paragraph();
+        infosGenerales.add(new Chunk("Année Scolaire: ", GRAS));
+        infosGenerales.add(new Chunk(bulletin.getAnneeScolaire() + "\n", NORMAL));
+        infosGenerales.add(new Chunk("Type d'évaluation: ", GRAS));
+        infosGenerales.add(new Chunk(bulletin.getTypeEvaluation() + "\n", NORMAL));
+        infosGenerales.setSpacingAfter(15);
+        document.add(infosGenerales);
+
+        PdfPTable studentTable = new PdfPTable(2);
+        studentTable.setWidthPercentage(100);
+        studentTable.setSpacingAfter(20);
+
+        addCell(studentTable, "Nom et Prénom:", GRAS);
+        addCell(studentTable, bulletin.getStudentNom() + " " + bulletin.getStudentPrenom(), NORMAL);
+
+        addCell(studentTable, "N° Inscription:", GRAS);
+        addCell(studentTable, bulletin.getMatricule(), NORMAL);
+
+        addCell(studentTable, "Niveau:", GRAS);
+        addCell(studentTable, bulletin.getNiveau(), NORMAL);
+
+        document.add(studentTable);
+
+        PdfPTable notesTable = new PdfPTable(LARGEURS);
+        notesTable.setWidthPercentage(100);
+        notesTable.setSpacingAfter(15);
+        notesTable.setHeaderRows(1);
+
+        PdfPCell entete = new PdfPCell(gabarits.entete(), false);
+        entete.setColspan(COLONNES.length);
+        entete.setBorder(Rectangle.NO_BORDER);
+        entete.setPadding(0);
+        notesTable.addCell(entete);
+
+        for (NoteModuleResponse note : bulletin.getNotes()) {
+            addCell(notesTable, note.getModuleNom(), NORMAL);
+            addCell(notesTable, note.getCoefficient() != null ? String.valueOf(note.getCoefficient()) : "-", NORMAL);
+            addCell(notesTable, note.getNoteC1() != null ? String.valueOf(note.getNoteC1()) : "-", NORMAL);
+            addCell(notesTable, note.getNoteC2() != null ? String.valueOf(note.getNoteC2()) : "-", NORMAL);
+            addCell(notesTable, note.getNoteExamenTh() != null ? String.valueOf(note.getNoteExamenTh()) : "-", NORMAL);
+            addCell(notesTable, note.getNoteExamenPr() != null ? String.valueOf(note.getNoteExamenPr()) : "-", NORMAL);
+            addCell(notesTable, note.getMoyenneModule() != null ? String.valueOf(note.getMoyenneModule()) : "-", NORMAL);
+        }
+
+        document.add(notesTable);
+
+        PdfPTable summaryTable = new PdfPTable(2);
+        summaryTable.setWidthPercentage(60);
+        summaryTable.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        summaryTable.setSpacingAfter(20);
+
+        addCell(summaryTable, "Moyenne Générale:", GRAS);
+        addCell(summaryTable, bulletin.getMoyenneGenerale() != null ? bulletin.getMoyenneGenerale() + " / 20" : "-", GRAS);
+
+        addCell(summaryTable, "Mention:", GRAS);
+        addCell(summaryTable, bulletin.getMention(), GRAS);
+
+        if (bulletin.getRang() != null) {
+            addCell(summaryTable, "Rang:", GRAS);
+            addCell(summaryTable, bulletin.getRang() + " / " + bulletin.getEffectifClasse(), GRAS);
+        }
+
+        document.add(summaryTable);
+
+        Paragraph prof = new Paragraph();
+        prof.add(new Chunk("Professeur Responsable: ", GRAS));
+        prof.add(new Chunk(bulletin.getProfesseurResponsable() != null && !bulletin.getProfesseurResponsable().isEmpty()
+                ? bulletin.getProfesseurResponsable() : "Non assigné", NORMAL));
+        prof.setSpacingAfter(30);
+        document.add(prof);
+
+        Paragraph signature = new Paragraph(new Chunk(gabarits.signature(), 0, 0, true));
+        signature.setAlignment(Element.ALIGN_RIGHT);
+        document.add(signature);
+    }
+
+    private static Gabarits compiler(PdfContentByte contenu) throws BadElementException {
+        PdfTemplate titre = contenu.createTemplate(LARGEUR_UTILE, HAUTEUR_TITRE);
+        titre.beginText();
+        titre.setFontAndSize(HELVETICA_GRAS, 18);
+        titre.showTextAligned(Element.ALIGN_CENTER, TITRE, LARGEUR_UTILE / 2, 6, 0);
+        titre.endText();
+
+        PdfTemplate entete = contenu.createTemplate(LARGEUR_UTILE, HAUTEUR_ENTETE);
+        entete.setColorFill(GRIS);
+        entete.rectangle(0, 0, LARGEUR_UTILE, HAUTEUR_ENTETE);
+        entete.fill();
+        entete.setColorStroke(BaseColor.BLACK);
+        entete.setLineWidth(0.5f);
+        entete.rectangle(0, 0, LARGEUR_UTILE, HAUTEUR_ENTETE);
+        for (int i = 1; i < COLONNES.length; i++) {
+            entete.moveTo(BORDS[i], 0);
+            entete.lineTo(BORDS[i], HAUTEUR_ENTETE);
+        }
+        entete.stroke();
+        entete.setColorFill(BaseColor.BLACK);
+        entete.beginText();
+        entete.setFontAndSize(HELVETICA_GRAS, 12);
+        for (int i = 0; i < COLONNES.length; i++) {
+            entete.showTextAligned(Element.ALIGN_CENTER, COLONNES[i], (BORDS[i] + BORDS[i + 1]) / 2, HAUTEUR_ENTETE / 2 - 4, 0);
+        }
+        entete.endText();
+
+        PdfTemplate signature = contenu.createTemplate(LARGEUR_SIGNATURE, HAUTEUR_SIGNATURE);
+        signature.beginText();
+        signature.setFontAndSize(HELVETICA, 10);
+        signature.showTextAligned(Element.ALIGN_LEFT, SIGNATURE, 0, 3, 0);
+        signature.endText();
+
+        return new Gabarits(Image.getInstance(titre), Image.getInstance(entete), Image.getInstance(signature));
+    }
+
+    private static void addCell(PdfPTable table, String text, Font font) {
+        PdfPCell cell = new PdfPCell(new Phrase(text, font));
+        cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+        cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+        cell.setPadding(5);
+        table.addCell(cell);
+    }
+
+    private static float[] bords() {
+        float total = 0;
+        for (float largeur : LARGEURS) {
+            total += largeur;
+        }
+        float[] bords = new float[LARGEURS.length + 1];
+        for (int i = 0; i < LARGEURS.length; i++) {
+            bords[i + 1] = bords[i] + LARGEURS[i] * LARGEUR_UTILE / total;
+        }
+        return bords;
+    }
+
+    private static BaseFont police(String nom) {
+        try {
+            return BaseFont.createFont(nom, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Police indisponible: " + nom, e);
+        }
+    }
+
+    private record Gabarits(Image titre, Image entete, Image signature) {
+    }
+}
@@ -1,61 +1,276 @@
 package com.iseem_backend.application.utils;
 
+import com.google.zxing.WriterException;
 import com.iseem_backend.application.model.Student;
-import com.itextpdf.text.*;
-import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfTemplate;
 import com.itextpdf.text.pdf.PdfWriter;
+import lombok.extern.slf4j.Slf4j;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+@Slf4j
 public class CardGenerator {
 
-    public static byte[] generateCards(List<Student> students) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Document document = new Document();
-            PdfWriter.getInstance(document, baos);
-            document.open();
+    public static final int CARTES_PAR_PAGE = 10;
+    private static final int CARTES_PAR_GROUPE = 4 * CARTES_PAR_PAGE;
+    private static final int COLONNES = 2;
+    private static final int LIGNES = CARTES_PAR_PAGE / COLONNES;
 
-            for (Student s : students) {
-                Paragraph p = new Paragraph("Carte Scolaire", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16));
-                p.setAlignment(Element.ALIGN_CENTER);
-                document.add(p);
+    private static final float LARGEUR_CARTE = 85.60f / 25.4f * 72;
+    private static final float HAUTEUR_CARTE = 53.98f / 25.4f * 72;
+    private static final float ECART_X = 14;
+    private static final float ECART_Y = 8;
+    private static final float MARGE_X = (PageSize.A4.getWidth() - COLONNES * LARGEUR_CARTE - (COLONNES - 1) * ECART_X) / 2;
+    private static final float MARGE_Y = (PageSize.A4.getHeight() - LIGNES * HAUTEUR_CARTE - (LIGNES - 1) * ECART_Y) / 2;
 
-                document.add(Chunk.NEWLINE);
-                document.add(Chunk.NEWLINE);
+    private static final float BANDEAU = 26;
+    private static final float PHOTO_X = 8;
+    private static final float PHOTO_L = 20f / 25.4f * 72;
+    private static final float PHOTO_H = 25f / 25.4f * 72;
+    private static final float PHOTO_Y = HAUTEUR_CARTE - BANDEAU - 6 - PHOTO_H;
+    private static final int PHOTO_PX_L = 236;
+    private static final int PHOTO_PX_H = 295;
+    private static final int TAILLE_MAX_PHOTO = 10 * 1024 * 1024;
+    private static final float QR_TAILLE = 42;
+    private static final float QR_X = PHOTO_X + (PHOTO_L - QR_TAILLE) / 2;
+    private static final float QR_Y = 5;
+    private static final float LIBELLE_X = 72;
+    private static final float VALEUR_X = 112;
+    private static final float LARGEUR_VALEUR = LARGEUR_CARTE - VALEUR_X - 8;
 
-                final PdfPTable table = getPdfPTable(s);
-                document.add(table);
+    private static final BaseFont HELVETICA = police(BaseFont.HELVETICA);
+    private static final BaseFont HELVETICA_GRAS = police(BaseFont.HELVETICA_BOLD);
+    private static final BaseColor BLEU = new BaseColor(31, 58, 95);
+    private static final BaseColor GRIS = new BaseColor(160, 160, 160);
+    private static final BaseColor GRIS_TEXTE = new BaseColor(90, 90, 90);
+    private static final String[] LIBELLES = {"Nom", "Prénom", "Matricule", "Né(e) le", "Niveau", "Année"};
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    private CardGenerator() {
+    }
+
+    public static CarteEtudiant carte(Student student, Path repertoirePhotos, String urlVerification) {
+        return new CarteEtudiant(
+                student.getMatricule(),
+                student.getUser().getNom(),
+                student.getUser().getPrenom(),
+                student.getDateNaissance(),
+                student.getNiveau() != null ? student.getNiveau().name() + (student.getGroupe() != null ? " - " + student.getGroupe() : "") : "",
+                student.getAnneeAcademique(),
+                sourcePhoto(student.getUser().getImage(), repertoirePhotos),
+                urlVerification + student.getUserId());
+    }
+
+    public static void ecrire(Iterable<List<CarteEtudiant>> lots, OutputStream out, ExecutorService executeur) throws IOException {
+        if (!FusionPdf.ecrire(lots, CARTES_PAR_GROUPE, CardGenerator::rendreGroupe, out, executeur)) {
+            throw new IllegalArgumentException("Aucune carte à générer");
+        }
+    }
+
+    static byte[] rendreGroupe(List<CarteEtudiant> cartes) throws DocumentException, IOException, WriterException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 0, 0, 0, 0);
+        PdfWriter writer = PdfWriter.getInstance(document, baos);
+        document.open();
+        PdfContentByte contenu = writer.getDirectContent();
+        PdfTemplate fond = compilerFond(contenu);
+        for (int i = 0; i < cartes.size(); i++) {
+            int position = i % CARTES_PAR_PAGE;
+            if (i > 0 && position == 0) {
                 document.newPage();
             }
+            float x = MARGE_X + (position % COLONNES) * (LARGEUR_CARTE + ECART_X);
+            float y = PageSize.A4.getHeight() - MARGE_Y - (position / COLONNES + 1) * HAUTEUR_CARTE - (position / COLONNES) * ECART_Y;
+            dessiner(contenu, fond, cartes.get(i), x, y);
+        }
+        document.close();
+        return baos.toByteArray();
+    }
+
+    private static PdfTemplate compilerFond(PdfContentByte contenu) {
+        PdfTemplate fond = contenu.createTemplate(LARGEUR_CARTE, HAUTEUR_CARTE);
+        fond.setColorFill(BLEU);
+        fond.rectangle(0, HAUTEUR_CARTE - BANDEAU, LARGEUR_CARTE, BANDEAU);
+        fond.fill();
+        fond.setColorStroke(GRIS);
+        fond.setLineWidth(0.5f);
+        fond.rectangle(0.25f, 0.25f, LARGEUR_CARTE - 0.5f, HAUTEUR_CARTE - 0.5f);
+        fond.rectangle(PHOTO_X, PHOTO_Y, PHOTO_L, PHOTO_H);
+        fond.stroke();
+
+        fond.beginText();
+        fond.setColorFill(BaseColor.WHITE);
+        fond.setFontAndSize(HELVETICA_GRAS, 11);
+        fond.showTextAligned(Element.ALIGN_LEFT, "ISEEM", 8, HAUTEUR_CARTE - 17, 0);
+        fond.setFontAndSize(HELVETICA_GRAS, 8);
+        fond.showTextAligned(Element.ALIGN_RIGHT, "CARTE D'ÉTUDIANT", LARGEUR_CARTE - 8, HAUTEUR_CARTE - 16, 0);
+        fond.setColorFill(GRIS_TEXTE);
+        fond.setFontAndSize(HELVETICA_GRAS, 6.5f);
+        for (int i = 0; i < LIBELLES.length; i++) {
+            fond.showTextAligned(Element.ALIGN_LEFT, LIBELLES[i], LIBELLE_X, ligne(i), 0);
+        }
+        fond.endText();
+        return fond;
+    }
+
+    private static void dessiner(PdfContentByte contenu, PdfTemplate fond, CarteEtudiant carte, float x, float y)
+            throws DocumentException, IOException, WriterException {
+        contenu.addTemplate(fond, x, y);
+
+        byte[] photo = preparerPhoto(carte.photo());
+        if (photo != null) {
+            Image image = Image.getInstance(photo);
+            image.scaleAbsolute(PHOTO_L, PHOTO_H);
+            image.setAbsolutePosition(x + PHOTO_X, y + PHOTO_Y);
+            contenu.addImage(image);
+        }
+
+        String[] valeurs = {carte.nom(), carte.prenom(), carte.matricule(),
+                carte.dateNaissance() != null ? carte.dateNaissance().format(FORMAT_DATE) : "",
+                carte.niveau(), carte.anneeAcademique()};
+        contenu.beginText();
+        contenu.setColorFill(BaseColor.BLACK);
+        contenu.setFontAndSize(HELVETICA, 8);
+        for (int i = 0; i < valeurs.length; i++) {
+            contenu.showTextAligned(Element.ALIGN_LEFT, tronquer(valeurs[i]), x + VALEUR_X, y + ligne(i), 0);
+        }
+        contenu.endText();
+
+        QRCodes.dessiner(contenu, carte.urlVerification(), x + QR_X, y + QR_Y, QR_TAILLE);
+    }
+
+    private static byte[] preparerPhoto(String source) {
+        if (source == null) {
+            return null;
+        }
+        try {
+            BufferedImage image = decoder(lirePhoto(source));
+            if (image == null) {
+                return null;
+            }
+            BufferedImage vignette = new BufferedImage(PHOTO_PX_L, PHOTO_PX_H, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphique = vignette.createGraphics();
+            try {
+                graphique.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphique.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphique.setColor(Color.WHITE);
+                graphique.fillRect(0, 0, PHOTO_PX_L, PHOTO_PX_H);
+                double echelle = Math.max((double) PHOTO_PX_L / image.getWidth(), (double) PHOTO_PX_H / image.getHeight());
+                int largeur = (int) Math.round(image.getWidth() * echelle);
+                int hauteur = (int) Math.round(image.getHeight() * echelle);
+                graphique.drawImage(image, (PHOTO_PX_L - largeur) / 2, (PHOTO_PX_H - hauteur) / 2, largeur, hauteur, null);
+            } finally {
+                graphique.dispose();
+            }
+            ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+            ImageIO.write(vignette, "jpg", jpeg);
+            return jpeg.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Photo ignorée pour la carte ({}): {}", source.length() > 80 ? source.substring(0, 80) : source, e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage decoder(byte[] contenu) throws IOException {
+        try (ImageInputStream entree = ImageIO.createImageInputStream(new ByteArrayInputStream(contenu))) {
+            Iterator<ImageReader> lecteurs = ImageIO.getImageReaders(entree);
+            if (!lecteurs.hasNext()) {
+                return null;
+            }
+            ImageReader lecteur = lecteurs.next();
+            try {
+                lecteur.setInput(entree, true, true);
+                int pas = Math.max(1, Math.min(lecteur.getWidth(0) / PHOTO_PX_L, lecteur.getHeight(0) / PHOTO_PX_H) / 2);
+                ImageReadParam parametres = lecteur.getDefaultReadParam();
+                parametres.setSourceSubsampling(pas, pas, 0, 0);
+                return lecteur.read(0, parametres);
+            } finally {
+                lecteur.dispose();
+            }
+        }
+    }
+
+    private static byte[] lirePhoto(String source) throws IOException {
+        if (source.startsWith("data:")) {
+            return Base64.getMimeDecoder().decode(source.substring(source.indexOf(',') + 1));
+        }
+        try (InputStream entree = Files.newInputStream(Path.of(source))) {
+            return entree.readNBytes(TAILLE_MAX_PHOTO);
+        }
+    }
+
+    private static String sourcePhoto(String image, Path repertoirePhotos) {
+        if (image == null || image.isBlank()) {
+            return null;
+        }
+        if (image.startsWith("data:")) {
+            return image;
+        }
+        if (image.contains("://")) {
+            return null;
+        }
+        try {
+            Path base = repertoirePhotos.toAbsolutePath().normalize();
+            Path fichier = base.resolve(image).normalize();
+            return fichier.startsWith(base) ? fichier.toString() : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static String tronquer(String valeur) {
+        if (valeur == null) {
+            return "";
+        }
+        String texte = valeur;
+        while (texte.length() > 1 && HELVETICA.getWidthPoint(texte, 8) > LARGEUR_VALEUR) {
+            texte = texte.substring(0, texte.length() - 2) + "…";
+        }
+        return texte;
+    }
+
+    private static float ligne(int index) {
+        return HAUTEUR_CARTE - BANDEAU - 14 - index * 16;
+    }
+
+    private static BaseFont police(String nom) {
+        try {
+            return BaseFont.createFont(nom, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Police indisponible: " + nom, e);
+        }
+    }
 
-            document.close();
-            return baos.toByteArray();
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to generate student cards", ex);
-        }
-    }
-
-    private static PdfPTable getPdfPTable(Student s) {
-        PdfPTable table = new PdfPTable(2);
-        table.setWidthPercentage(100);
-        table.addCell("Matricule:");
-        table.addCell(s.getMatricule());
-        table.addCell("Nom:");
-        table.addCell(s.getUser().getNom());
-        table.addCell("Prenom:");
-        table.addCell(s.getUser().getPrenom());
-        table.addCell("Date de naissance:");
-        table.addCell(s.getDateNaissance() != null ? s.getDateNaissance().toString() : "");
-        table.addCell("Sexe:");
-        table.addCell(s.getSexe() != null ? s.getSexe().name() : "");
-        table.addCell("Niveau:");
-        table.addCell(s.getNiveau() != null ? s.getNiveau().name() : "");
-        table.addCell("Email:");
-        table.addCell(s.getUser().getEmail());
-        table.addCell("Telephone:");
-        table.addCell(s.getUser().getTelephone());
-        return table;
+    public record CarteEtudiant(String matricule, String nom, String prenom, LocalDate dateNaissance, String niveau,
+                                String anneeAcademique, String photo, String urlVerification) {
     }
 }
@@ -1,44 +1,174 @@
 package com.iseem_backend.application.utils;
 
 import com.iseem_backend.application.model.Diplome;
+import com.iseem_backend.application.model.User;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.renderer.CanvasRenderer;
+import com.itextpdf.layout.renderer.ParagraphRenderer;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DiplomePDFGenerator {
 
+    private static final float MARGE = 36;
+    private static final float TAILLE_TITRE = 18;
+    private static final float TAILLE_TEXTE = 12;
+    private static final float INTERLIGNE = 1.2f;
+    private static final float ESPACEMENT = 8;
+
+    private static final Rubrique[] RUBRIQUES = {
+            new Rubrique("Diplôme: ", TAILLE_TITRE, 2),
+            new Rubrique("Type: ", TAILLE_TEXTE, 1),
+            new Rubrique("Année d'obtention: ", TAILLE_TEXTE, 1),
+            new Rubrique("Mention: ", TAILLE_TEXTE, 1),
+            new Rubrique("Validé: ", TAILLE_TEXTE, 1),
+            new Rubrique("Signé par: ", TAILLE_TEXTE, 1),
+            new Rubrique("QR Code URL: ", TAILLE_TEXTE, 2),
+            new Rubrique("Commentaires: ", TAILLE_TEXTE, 0)
+    };
+
+    private static final FontProgram HELVETICA = police(StandardFonts.HELVETICA);
+    private static final FontProgram HELVETICA_GRAS = police(StandardFonts.HELVETICA_BOLD);
+    private static final Modele MODELE = compilerModele();
+
     public static byte[] generatePDF(Diplome diplome) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
-            PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
-
-            document.add(new Paragraph("Diplôme: " + diplome.getNomDiplome())
-                    .setFont(PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD))
-                    .setFontSize(18));
-
-            document.add(new Paragraph("Type: " + (diplome.getTypeDiplome() != null ? diplome.getTypeDiplome().name() : "N/A")));
-            document.add(new Paragraph("Année d'obtention: " + (diplome.getAnneeObtention() != null ? diplome.getAnneeObtention() : "N/A")));
-            document.add(new Paragraph("Mention: " + (diplome.getMention() != null ? diplome.getMention().name() : "N/A")));
-            document.add(new Paragraph("Validé: " + (diplome.isEstValide() ? "Oui" : "Non")));
-            if (diplome.getSignatureAdmin() != null) {
-                document.add(new Paragraph("Signé par: " + diplome.getSignatureAdmin().getNom() + " " + diplome.getSignatureAdmin().getPrenom()));
+            ecrire(diplome, baos);
+            return baos.toByteArray();
+        } catch (Exception e) {
+            throw new RuntimeException("Erreur lors de la génération du PDF du diplôme", e);
+        }
+    }
+
+    public static void ecrire(Diplome diplome, OutputStream out) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        try (PdfDocument pdf = new PdfDocument(writer)) {
+            PdfPage page = pdf.addNewPage(PageSize.A4);
+            PdfFont normale = PdfFontFactory.createFont(HELVETICA, PdfEncodings.WINANSI);
+            PdfFont grasse = PdfFontFactory.createFont(HELVETICA_GRAS, PdfEncodings.WINANSI);
+
+            PdfFormXObject libelles = libelles(pdf, normale, grasse);
+            libelles.getPdfObject().setData(MODELE.libelles());
+
+            PdfCanvas canvas = new PdfCanvas(page);
+            canvas.addXObjectAt(libelles, 0, 0);
+            String[] textes = valeurs(diplome);
+            for (int i = 0; i < RUBRIQUES.length; i++) {
+                PdfFont police = i == 0 ? grasse : normale;
+                float taille = RUBRIQUES[i].taille();
+                Zone zone = MODELE.zones().get(i);
+                if (textes[i].indexOf('\n') < 0 && police.getWidth(textes[i], taille) <= zone.cadre().getWidth()) {
+                    canvas.beginText()
+                            .setFontAndSize(police, taille)
+                            .moveText(zone.cadre().getLeft(), zone.ligneDeBase())
+                            .showText(textes[i])
+                            .endText();
+                } else {
+                    try (Canvas cadre = new Canvas(canvas, zone.cadre().clone())) {
+                        cadre.add(paragraphe(textes[i], police, taille));
+                    }
+                }
             }
-            if (diplome.getQrCodeUrl() != null) {
-                document.add(new Paragraph("QR Code URL: " + diplome.getQrCodeUrl()));
+        }
+    }
+
+    private static String[] valeurs(Diplome diplome) {
+        User signataire = diplome.getSignatureAdmin();
+        return new String[]{
+                diplome.getNomDiplome() != null ? diplome.getNomDiplome() : "N/A",
+                diplome.getTypeDiplome() != null ? diplome.getTypeDiplome().name() : "N/A",
+                diplome.getAnneeObtention() != null ? String.valueOf(diplome.getAnneeObtention()) : "N/A",
+                diplome.getMention() != null ? diplome.getMention().name() : "N/A",
+                diplome.isEstValide() ? "Oui" : "Non",
+                signataire != null ? signataire.getNom() + " " + signataire.getPrenom() : "N/A",
+                diplome.getQrCodeUrl() != null ? diplome.getQrCodeUrl() : "N/A",
+                diplome.getCommentaire() != null ? diplome.getCommentaire() : ""
+        };
+    }
+
+    private static PdfFormXObject libelles(PdfDocument pdf, PdfFont normale, PdfFont grasse) {
+        PdfFormXObject libelles = new PdfFormXObject(PageSize.A4);
+        libelles.getResources().addFont(pdf, normale);
+        libelles.getResources().addFont(pdf, grasse);
+        return libelles;
+    }
+
+    private static Paragraph paragraphe(String texte, PdfFont police, float taille) {
+        return new Paragraph(texte)
+                .setFont(police)
+                .setFontSize(taille)
+                .setMultipliedLeading(INTERLIGNE)
+                .setMargin(0);
+    }
+
+    private static Modele compilerModele() {
+        List<Zone> zones = new ArrayList<>();
+        try (PdfDocument pdf = new PdfDocument(new PdfWriter(OutputStream.nullOutputStream()))) {
+            PdfFont normale = PdfFontFactory.createFont(HELVETICA, PdfEncodings.WINANSI);
+            PdfFont grasse = PdfFontFactory.createFont(HELVETICA_GRAS, PdfEncodings.WINANSI);
+            PdfFormXObject libelles = libelles(pdf, normale, grasse);
+
+            PdfCanvas canvas = new PdfCanvas(libelles, pdf);
+            float largeur = PageSize.A4.getWidth() - 2 * MARGE;
+            float haut = PageSize.A4.getHeight() - MARGE;
+            for (Rubrique rubrique : RUBRIQUES) {
+                PdfFont police = rubrique == RUBRIQUES[0] ? grasse : normale;
+                float hauteur = rubrique.lignes() > 0 ? rubrique.lignes() * rubrique.taille() * INTERLIGNE + ESPACEMENT : haut - MARGE;
+                float retrait = police.getWidth(rubrique.libelle(), rubrique.taille());
+                try (Canvas zone = new Canvas(canvas, new Rectangle(MARGE, haut - hauteur, largeur, hauteur))) {
+                    zone.add(paragraphe(rubrique.libelle(), police, rubrique.taille()));
+                    zones.add(new Zone(new Rectangle(MARGE + retrait, haut - hauteur, largeur - retrait, hauteur),
+                            haut - premiereLigne(zone, police, rubrique.taille())));
+                }
+                haut -= hauteur;
             }
+            canvas.release();
+            return new Modele(libelles.getPdfObject().getBytes(), List.copyOf(zones));
+        }
+    }
 
-            document.add(new Paragraph("Commentaires: " + (diplome.getCommentaire() != null ? diplome.getCommentaire() : "")));
+    private static float premiereLigne(Canvas zone, PdfFont police, float taille) {
+        ParagraphRenderer sonde = (ParagraphRenderer) paragraphe("X", police, taille).createRendererSubTree()
+                .setParent(new CanvasRenderer(zone));
+        sonde.layout(new LayoutContext(new LayoutArea(1, new Rectangle(0, 0, PageSize.A4.getWidth(), PageSize.A4.getHeight()))));
+        return PageSize.A4.getHeight() - sonde.getLines().get(0).getYLine();
+    }
 
-            document.close();
-            return baos.toByteArray();
+    private static FontProgram police(String nom) {
+        try {
+            return FontProgramFactory.createFont(nom);
         } catch (Exception e) {
-            throw new RuntimeException("Erreur lors de la génération du PDF du diplôme", e);
+            throw new IllegalStateException("Police indisponible: " + nom, e);
         }
     }
+
+    private record Rubrique(String libelle, float taille, int lignes) {
+    }
+
+    private record Zone(Rectangle cadre, float ligneDeBase) {
+    }
+
+    private record Modele(byte[] libelles, List<Zone> zones) {
+    }
 }
@@ -0,0 +1,154 @@
+package com.iseem_backend.application.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DistributionNotes {
+
+    private static final int CENTIEMES_MAX = 2000;
+
+    private final int[] effectifs = new int[CENTIEMES_MAX + 1];
+    private long effectif;
+    private long somme;
+    private long sommeCarres;
+
+    public synchronized void ajouter(BigDecimal valeur, long nombre) {
+        if (valeur == null || nombre == 0) {
+            return;
+        }
+        int centiemes = enCentiemes(valeur);
+        effectifs[centiemes] += (int) nombre;
+        effectif += nombre;
+        somme += nombre * centiemes;
+        sommeCarres += nombre * centiemes * (long) centiemes;
+    }
+
+    public void ajouter(BigDecimal valeur) {
+        ajouter(valeur, 1);
+    }
+
+    public void retirer(BigDecimal valeur) {
+        ajouter(valeur, -1);
+    }
+
+    public synchronized void remplacer(BigDecimal ancienne, BigDecimal nouvelle) {
+        retirer(ancienne);
+        ajouter(nouvelle);
+    }
+
+    public void fusionner(DistributionNotes autre) {
+        int[] copie;
+        long effectifAutre;
+        long sommeAutre;
+        long sommeCarresAutre;
+        synchronized (autre) {
+            copie = autre.effectifs.clone();
+            effectifAutre = autre.effectif;
+            sommeAutre = autre.somme;
+            sommeCarresAutre = autre.sommeCarres;
+        }
+        synchronized (this) {
+            for (int i = 0; i <= CENTIEMES_MAX; i++) {
+                effectifs[i] += copie[i];
+            }
+            effectif += effectifAutre;
+            somme += sommeAutre;
+            sommeCarres += sommeCarresAutre;
+        }
+    }
+
+    public synchronized long getEffectif() {
+        return effectif;
+    }
+
+    public synchronized BigDecimal moyenne() {
+        if (effectif <= 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(somme).divide(BigDecimal.valueOf(effectif * 100), 2, RoundingMode.HALF_UP);
+    }
+
+    public synchronized BigDecimal ecartType() {
+        if (effectif <= 0) {
+            return null;
+        }
+        double moyenne = (double) somme / effectif;
+        double variance = Math.max(0, (double) sommeCarres / effectif - moyenne * moyenne);
+        return BigDecimal.valueOf(Math.sqrt(variance) / 100).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public synchronized BigDecimal minimum() {
+        for (int i = 0; i <= CENTIEMES_MAX; i++) {
+            if (effectifs[i] > 0) {
+                return BigDecimal.valueOf(i, 2);
+            }
+        }
+        return null;
+    }
+
+    public synchronized BigDecimal maximum() {
+        for (int i = CENTIEMES_MAX; i >= 0; i--) {
+            if (effectifs[i] > 0) {
+                return BigDecimal.valueOf(i, 2);
+            }
+        }
+        return null;
+    }
+
+    public synchronized BigDecimal quantile(double q) {
+        if (effectif <= 0) {
+            return null;
+        }
+        double position = Math.min(Math.max(q, 0), 1) * (effectif - 1);
+        long rang = (long) Math.floor(position);
+        int bas = valeurAuRang(rang);
+        int haut = valeurAuRang(Math.min(rang + 1, effectif - 1));
+        double valeur = bas + (position - rang) * (haut - bas);
+        return BigDecimal.valueOf(valeur / 100).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public synchronized BigDecimal tauxAuMoins(BigDecimal seuil) {
+        if (effectif <= 0) {
+            return null;
+        }
+        long atteints = 0;
+        for (int i = enCentiemes(seuil); i <= CENTIEMES_MAX; i++) {
+            atteints += effectifs[i];
+        }
+        return BigDecimal.valueOf(atteints * 100).divide(BigDecimal.valueOf(effectif), 2, RoundingMode.HALF_UP);
+    }
+
+    public synchronized List<Long> histogramme() {
+        List<Long> classes = new ArrayList<>(20);
+        for (int classe = 0; classe < 20; classe++) {
+            long total = 0;
+            int fin = classe == 19 ? CENTIEMES_MAX : (classe + 1) * 100 - 1;
+            for (int i = classe * 100; i <= fin; i++) {
+                total += effectifs[i];
+            }
+            classes.add(total);
+        }
+        return classes;
+    }
+
+    private int valeurAuRang(long rang) {
+        long cumul = 0;
+        for (int i = 0; i <= CENTIEMES_MAX; i++) {
+            cumul += effectifs[i];
+            if (cumul > rang) {
+                return i;
+            }
+        }
+        return CENTIEMES_MAX;
+    }
+
+    private static int enCentiemes(BigDecimal valeur) {
+        int centiemes = valeur.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        if (centiemes < 0 || centiemes > CENTIEMES_MAX) {
+            throw new IllegalArgumentException("Note hors de l'intervalle 0-20: " + valeur);
+        }
+        return centiemes;
+    }
+}
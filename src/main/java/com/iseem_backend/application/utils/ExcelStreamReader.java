@@ -0,0 +1,122 @@
+package com.iseem_backend.application.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class ExcelStreamReader {
+
+    private ExcelStreamReader() {
+    }
+
+    public static void lirePremiereFeuille(MultipartFile file, Consumer<Ligne> consommateur) throws Exception {
+        Path temp = Files.createTempFile("iseem-import-", ".xlsx");
+        try {
+            file.transferTo(temp);
+            try (OPCPackage pkg = OPCPackage.open(temp.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+                Iterator<InputStream> feuilles = reader.getSheetsData();
+                if (!feuilles.hasNext()) {
+                    return;
+                }
+                try (InputStream feuille = feuilles.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, strings, new LigneHandler(consommateur), new IsoDateFormatter(), false));
+                    parser.parse(new InputSource(feuille));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public record Ligne(int numero, List<String> valeurs) {
+
+        public String get(int index) {
+            return index >= 0 && index < valeurs.size() ? valeurs.get(index) : null;
+        }
+
+        public int taille() {
+            return valeurs.size();
+        }
+
+        public boolean estVide(int colonnes) {
+            for (int c = 0; c < colonnes; c++) {
+                String valeur = get(c);
+                if (valeur != null && !valeur.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class LigneHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<Ligne> consommateur;
+        private List<String> valeurs;
+        private int colonneCourante;
+
+        private LigneHandler(Consumer<Ligne> consommateur) {
+            this.consommateur = consommateur;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            valeurs = new ArrayList<>();
+            colonneCourante = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            consommateur.accept(new Ligne(rowNum, valeurs));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int colonne = cellReference != null ? new CellReference(cellReference).getCol() : colonneCourante + 1;
+            while (valeurs.size() < colonne) {
+                valeurs.add(null);
+            }
+            String valeur = formattedValue != null ? formattedValue.trim() : null;
+            valeurs.add(valeur == null || valeur.isEmpty() ? null : valeur);
+            colonneCourante = colonne;
+        }
+    }
+
+    private static final class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            if (value == Math.floor(value) && !Double.isInfinite(value)) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
+}
@@ -4,13 +4,13 @@ import com.iseem_backend.application.enums.*;
 import com.iseem_backend.application.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
@@ -20,112 +20,122 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Slf4j
 public class ExcelUtils {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
-    private static final BCryptPasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
     private static final LocalTime DEFAULT_START_TIME = LocalTime.of(8, 0);
     private static final LocalTime DEFAULT_END_TIME = LocalTime.of(17, 0);
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int MAX_COLUMN_CHARS = 60;
+
+    private static final String[] ENSEIGNANT_COLUMNS = {
+            "prenom", "nom", "email", "telephone", "specialite",
+            "dateEmbauche", "statusEnseignant", "heuresTravail",
+            "horaireDebut", "horaireFin"
+    };
+    private static final String[] DIPLOME_COLUMNS = {
+            "ID", "NomDiplome", "TypeDiplome", "AnneeObtention", "EstValide",
+            "Mention", "DateDelivrance", "SignatureAdmin", "QrCodeUrl", "Commentaire", "ModeRemise"
+    };
+    private static final String[] FORMATION_COLUMNS = {
+            "ID", "Nom", "Durée", "Coût", "Professeurs", "Description", "Année", "ModeFormation", "NiveauAcces", "CapaciteMax", "EstActive"
+    };
+    private static final String[] STUDENT_COLUMNS = {
+            "prenom", "nom", "matricule", "email", "telephone", "dateNaissance",
+            "lieuNaissance", "sexe", "nationalite", "adresse", "ville",
+            "situationFamiliale", "niveau", "groupe", "anneeAcademique",
+            "statut", "bourse", "handicap"
+    };
+
+    public static void exportEnseignants(OutputStream out, Iterable<List<Enseignant>> pages) throws IOException {
+        exportStreaming(out, "Enseignants", ENSEIGNANT_COLUMNS, pages, e -> new Object[]{
+                e.getUser().getPrenom(),
+                e.getUser().getNom(),
+                e.getUser().getEmail(),
+                e.getUser().getTelephone(),
+                e.getSpecialite(),
+                e.getDateEmbauche() != null ? e.getDateEmbauche().toString() : "",
+                e.getStatusEnseignant() != null ? e.getStatusEnseignant().name() : "",
+                e.getHeuresTravail() != null ? e.getHeuresTravail().toHours() : 0,
+                e.getHoraire() != null && e.getHoraire().getStartTime() != null ? e.getHoraire().getStartTime().toString() : "",
+                e.getHoraire() != null && e.getHoraire().getEndTime() != null ? e.getHoraire().getEndTime().toString() : ""
+        });
+    }
+
+    public static void importEnseignants(MultipartFile file, int tailleLot, Consumer<List<LigneImportee<Enseignant>>> lot) {
+        int[] passwordColumnIndex = {-1};
+        int[] importes = {0};
+        List<LigneImportee<Enseignant>> courant = new ArrayList<>(tailleLot);
+        try {
+            log.info("Starting enseignant import: {}", file.getOriginalFilename());
 
-    public static byte[] exportEnseignants(List<Enseignant> enseignants) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Enseignants");
-            String[] columns = {
-                    "prenom", "nom", "email", "telephone", "specialite",
-                    "dateEmbauche", "statusEnseignant", "heuresTravail",
-                    "horaireDebut", "horaireFin"
-            };
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < columns.length; i++) {
-                header.createCell(i).setCellValue(columns[i]);
-            }
-
-            int rowNum = 1;
-            for (Enseignant e : enseignants) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(e.getUser().getPrenom());
-                row.createCell(1).setCellValue(e.getUser().getNom());
-                row.createCell(2).setCellValue(e.getUser().getEmail());
-                row.createCell(3).setCellValue(e.getUser().getTelephone());
-                row.createCell(4).setCellValue(e.getSpecialite());
-                row.createCell(5).setCellValue(e.getDateEmbauche() != null ? e.getDateEmbauche().toString() : "");
-                row.createCell(6).setCellValue(e.getStatusEnseignant() != null ? e.getStatusEnseignant().name() : "");
-                row.createCell(7).setCellValue(e.getHeuresTravail() != null ? e.getHeuresTravail().toHours() : 0);
-                row.createCell(8).setCellValue(e.getHoraire() != null && e.getHoraire().getStartTime() != null ? e.getHoraire().getStartTime().toString() : "");
-                row.createCell(9).setCellValue(e.getHoraire() != null && e.getHoraire().getEndTime() != null ? e.getHoraire().getEndTime().toString() : "");
-            }
-
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            workbook.write(out);
-            return out.toByteArray();
-        }
-    }
-
-    public static List<Enseignant> importEnseignants(MultipartFile file) {
-        List<Enseignant> enseignants = new ArrayList<>();
-        try (InputStream is = file.getInputStream(); Workbook workbook = new XSSFWorkbook(is)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            int totalRows = sheet.getLastRowNum();
-
-            log.info("Starting enseignant import - Total rows: {}", totalRows);
-
-            int passwordColumnIndex = findPasswordColumnIndex(sheet.getRow(0));
-            log.info("Has password column: {}, at index: {}", passwordColumnIndex >= 0, passwordColumnIndex);
-
-            for (int i = 1; i <= totalRows; i++) {
-                Row row = sheet.getRow(i);
+            ExcelStreamReader.lirePremiereFeuille(file, ligne -> {
+                if (ligne.numero() == 0) {
+                    passwordColumnIndex[0] = findPasswordColumnIndex(ligne);
+                    log.info("Has password column: {}, at index: {}", passwordColumnIndex[0] >= 0, passwordColumnIndex[0]);
+                    return;
+                }
 
-                if (isRowEmpty(row)) {
-                    log.info("Row {} is empty, skipping", i);
-                    continue;
+                if (ligne.estVide(4)) {
+                    log.info("Row {} is empty, skipping", ligne.numero());
+                    return;
                 }
 
                 try {
-                    Enseignant enseignant = parseEnseignantRow(row, passwordColumnIndex, i);
+                    LigneImportee<Enseignant> enseignant = parseEnseignantRow(ligne, passwordColumnIndex[0], ligne.numero());
                     if (enseignant != null) {
-                        enseignants.add(enseignant);
-                        log.info("Row {} - Enseignant successfully created: {} {}", i,
-                                enseignant.getUser().getPrenom(), enseignant.getUser().getNom());
+                        courant.add(enseignant);
+                        importes[0]++;
+                        log.info("Row {} - Enseignant successfully created: {} {}", ligne.numero(),
+                                enseignant.entite().getUser().getPrenom(), enseignant.entite().getUser().getNom());
                     }
                 } catch (Exception e) {
-                    log.error("Error importing enseignant from row {}: {}", i, e.getMessage(), e);
+                    log.error("Error importing enseignant from row {}: {}", ligne.numero(), e.getMessage(), e);
+                }
+
+                if (courant.size() >= tailleLot) {
+                    lot.accept(new ArrayList<>(courant));
+                    courant.clear();
                 }
+            });
+
+            if (!courant.isEmpty()) {
+                lot.accept(new ArrayList<>(courant));
             }
 
-            log.info("Import completed - Successful imports: {}", enseignants.size());
+            log.info("Import completed - Successful imports: {}", importes[0]);
         } catch (Exception ex) {
             log.error("Failed to import Excel file", ex);
             throw new RuntimeException("Failed to import Excel file", ex);
         }
-        return enseignants;
     }
 
-    private static Enseignant parseEnseignantRow(Row row, int passwordColumnIndex, int rowNum) {
-        String prenom = getCellValueAsString(row.getCell(0));
-        String nom = getCellValueAsString(row.getCell(1));
-        String email = getCellValueAsString(row.getCell(2));
-        String telephone = getCellValueAsString(row.getCell(3));
-        String specialite = getCellValueAsString(row.getCell(4));
+    private static LigneImportee<Enseignant> parseEnseignantRow(ExcelStreamReader.Ligne row, int passwordColumnIndex, int rowNum) {
+        String prenom = row.get(0);
+        String nom = row.get(1);
+        String email = row.get(2);
+        String telephone = row.get(3);
+        String specialite = row.get(4);
 
         int baseIndex = 5;
         String passwordPlain = null;
 
         if (passwordColumnIndex > 4) {
-            passwordPlain = getCellValueAsString(row.getCell(passwordColumnIndex));
+            passwordPlain = row.get(passwordColumnIndex);
             baseIndex = passwordColumnIndex + 1;
         }
 
-        String dateEmbaucheStr = getCellValueAsString(row.getCell(baseIndex));
-        String statusStr = getCellValueAsString(row.getCell(baseIndex + 1));
-        String heuresTravailStr = getCellValueAsString(row.getCell(baseIndex + 2));
-        String horaireDebutStr = getCellValueAsString(row.getCell(baseIndex + 3));
-        String horaireFinStr = getCellValueAsString(row.getCell(baseIndex + 4));
+        String dateEmbaucheStr = row.get(baseIndex);
+        String statusStr = row.get(baseIndex + 1);
+        String heuresTravailStr = row.get(baseIndex + 2);
+        String horaireDebutStr = row.get(baseIndex + 3);
+        String horaireFinStr = row.get(baseIndex + 4);
 
         if (isNullOrEmpty(email) || isNullOrEmpty(nom) || isNullOrEmpty(prenom) || isNullOrEmpty(specialite)) {
             log.warn("Row {} skipped - missing essential fields", rowNum);
@@ -138,13 +148,11 @@ public class ExcelUtils {
         TimeSlot horaire = parseHoraire(horaireDebutStr, horaireFinStr, rowNum);
 
         String passwordToUse = isNullOrEmpty(passwordPlain) ? email.split("@")[0] : passwordPlain.trim();
-        String hashedPassword = PASSWORD_ENCODER.encode(passwordToUse);
 
         log.info("Row {} - Creating enseignant with email: {}, password will be: {}", rowNum, email, passwordToUse);
 
         User user = User.builder()
                 .email(email.trim())
-                .passwordHash(hashedPassword)
                 .role(Role.ENSEIGNANT)
                 .nom(nom.trim())
                 .prenom(prenom.trim())
@@ -152,7 +160,7 @@ public class ExcelUtils {
                 .image(null)
                 .build();
 
-        return Enseignant.builder()
+        Enseignant enseignant = Enseignant.builder()
                 .user(user)
                 .specialite(specialite.trim())
                 .dateEmbauche(dateEmbauche != null ? dateEmbauche : LocalDate.now())
@@ -160,15 +168,12 @@ public class ExcelUtils {
                 .heuresTravail(heuresTravail)
                 .horaire(horaire)
                 .build();
+        return new LigneImportee<>(rowNum, enseignant, passwordToUse);
     }
 
-    private static int findPasswordColumnIndex(Row headerRow) {
-        if (headerRow == null) {
-            return -1;
-        }
-
-        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-            String header = getCellValueAsString(headerRow.getCell(i));
+    private static int findPasswordColumnIndex(ExcelStreamReader.Ligne headerRow) {
+        for (int i = 0; i < headerRow.taille(); i++) {
+            String header = headerRow.get(i);
             if (header != null && isPasswordHeader(header)) {
                 return i;
             }
@@ -244,41 +249,20 @@ public class ExcelUtils {
         return createTimeSlot(DEFAULT_START_TIME, DEFAULT_END_TIME);
     }
 
-    public static byte[] exportDiplomes(List<Diplome> diplomes) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Diplomes");
-            String[] columns = {
-                    "ID", "NomDiplome", "TypeDiplome", "AnneeObtention", "EstValide",
-                    "Mention", "DateDelivrance", "SignatureAdmin", "QrCodeUrl", "Commentaire", "ModeRemise"
-            };
-            Row header = sheet.createRow(0);
-            for (int i = 0; i < columns.length; i++) {
-                header.createCell(i).setCellValue(columns[i]);
-            }
-
-            int rowNum = 1;
-            for (Diplome d : diplomes) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(d.getIdDiplome().toString());
-                row.createCell(1).setCellValue(d.getNomDiplome());
-                row.createCell(2).setCellValue(d.getTypeDiplome() != null ? d.getTypeDiplome().name() : "");
-                row.createCell(3).setCellValue(d.getAnneeObtention() != null ? d.getAnneeObtention() : 0);
-                row.createCell(4).setCellValue(d.isEstValide());
-                row.createCell(5).setCellValue(d.getMention() != null ? d.getMention().name() : "");
-                row.createCell(6).setCellValue(d.getDateDelivrance() != null ? d.getDateDelivrance().toString() : "");
-                row.createCell(7).setCellValue(d.getSignatureAdmin() != null ? d.getSignatureAdmin().getEmail() : "");
-                row.createCell(8).setCellValue(d.getQrCodeUrl() != null ? d.getQrCodeUrl() : "");
-                row.createCell(9).setCellValue(d.getCommentaire() != null ? d.getCommentaire() : "");
-                row.createCell(10).setCellValue(d.getModeRemise() != null ? d.getModeRemise().name() : "");
-            }
-
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            workbook.write(out);
-            return out.toByteArray();
-        }
+    public static void exportDiplomes(OutputStream out, Iterable<List<Diplome>> pages) throws IOException {
+        exportStreaming(out, "Diplomes", DIPLOME_COLUMNS, pages, d -> new Object[]{
+                d.getIdDiplome().toString(),
+                d.getNomDiplome(),
+                d.getTypeDiplome() != null ? d.getTypeDiplome().name() : "",
+                d.getAnneeObtention() != null ? d.getAnneeObtention() : 0,
+                d.isEstValide(),
+                d.getMention() != null ? d.getMention().name() : "",
+                d.getDateDelivrance() != null ? d.getDateDelivrance().toString() : "",
+                d.getSignatureAdmin() != null ? d.getSignatureAdmin().getEmail() : "",
+                d.getQrCodeUrl() != null ? d.getQrCodeUrl() : "",
+                d.getCommentaire() != null ? d.getCommentaire() : "",
+                d.getModeRemise() != null ? d.getModeRemise().name() : ""
+        });
     }
 
     public static List<Diplome> importDiplomes(MultipartFile file) throws IOException {
@@ -308,39 +292,20 @@ public class ExcelUtils {
         return diplomes;
     }
 
-    public static byte[] exportFormations(List<Formation> formations) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Formations");
-            Row header = sheet.createRow(0);
-            String[] columns = {"ID", "Nom", "Durée", "Coût", "Professeurs", "Description", "Année", "ModeFormation", "NiveauAcces", "CapaciteMax", "EstActive"};
-            for (int i = 0; i < columns.length; i++) {
-                Cell cell = header.createCell(i);
-                cell.setCellValue(columns[i]);
-            }
-
-            int rowNum = 1;
-            for (Formation f : formations) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(f.getIdFormation().toString());
-                row.createCell(1).setCellValue(f.getNom());
-                row.createCell(2).setCellValue(f.getDuree());
-                row.createCell(3).setCellValue(f.getCout() != null ? f.getCout().doubleValue() : 0);
-                row.createCell(4).setCellValue(f.getNomProfesseurs());
-                row.createCell(5).setCellValue(f.getDescription() != null ? f.getDescription() : "");
-                row.createCell(6).setCellValue(f.getAnneeFormation() != null ? f.getAnneeFormation() : "");
-                row.createCell(7).setCellValue(f.getModeFormation() != null ? f.getModeFormation().name() : "");
-                row.createCell(8).setCellValue(f.getNiveauAcces() != null ? f.getNiveauAcces() : "");
-                row.createCell(9).setCellValue(f.getCapaciteMax() != null ? f.getCapaciteMax() : 0);
-                row.createCell(10).setCellValue(f.getEstActive() != null ? f.getEstActive() : false);
-            }
-
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            workbook.write(out);
-            return out.toByteArray();
-        }
+    public static void exportFormations(OutputStream out, Iterable<List<Formation>> pages) throws IOException {
+        exportStreaming(out, "Formations", FORMATION_COLUMNS, pages, f -> new Object[]{
+                f.getIdFormation().toString(),
+                f.getNom(),
+                f.getDuree(),
+                f.getCout() != null ? f.getCout().doubleValue() : 0,
+                f.getNomProfesseurs(),
+                f.getDescription() != null ? f.getDescription() : "",
+                f.getAnneeFormation() != null ? f.getAnneeFormation() : "",
+                f.getModeFormation() != null ? f.getModeFormation().name() : "",
+                f.getNiveauAcces() != null ? f.getNiveauAcces() : "",
+                f.getCapaciteMax() != null ? f.getCapaciteMax() : 0,
+                f.getEstActive() != null ? f.getEstActive() : false
+        });
     }
 
     public static List<Formation> importFormations(MultipartFile file) throws IOException {
@@ -370,57 +335,63 @@ public class ExcelUtils {
         return formations;
     }
 
-    public static List<Student> importStudents(MultipartFile file) {
-        List<Student> students = new ArrayList<>();
-        try (InputStream is = file.getInputStream(); Workbook workbook = new XSSFWorkbook(is)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            int totalRows = sheet.getLastRowNum();
-
-            log.info("Starting import - Total rows in sheet: {}", totalRows);
-
-            int passwordColumnIndex = findPasswordColumnIndex(sheet.getRow(0));
-            boolean hasPasswordColumn = passwordColumnIndex >= 0;
-
-            log.info("Header row exists: {}, Has password column: {}", sheet.getRow(0) != null, hasPasswordColumn);
-
-            int processedRows = 0;
-            for (int i = 1; i <= totalRows; i++) {
-                Row row = sheet.getRow(i);
-                log.info("Processing row {}: row exists = {}", i, row != null);
+    public static void importStudents(MultipartFile file, int tailleLot, Consumer<List<LigneImportee<Student>>> lot) {
+        int[] passwordColumnIndex = {-1};
+        int[] compteurs = {0, 0};
+        List<LigneImportee<Student>> courant = new ArrayList<>(tailleLot);
+        try {
+            log.info("Starting import: {}", file.getOriginalFilename());
+
+            ExcelStreamReader.lirePremiereFeuille(file, ligne -> {
+                int i = ligne.numero();
+                if (i == 0) {
+                    passwordColumnIndex[0] = findPasswordColumnIndex(ligne);
+                    log.info("Has password column: {}", passwordColumnIndex[0] >= 0);
+                    return;
+                }
 
-                if (isRowEmpty(row)) {
+                if (ligne.estVide(4)) {
                     log.info("Row {} is empty, skipping", i);
-                    continue;
+                    return;
                 }
 
-                processedRows++;
+                compteurs[0]++;
 
                 try {
-                    Student student = parseStudentRow(row, hasPasswordColumn, passwordColumnIndex, i);
+                    LigneImportee<Student> student = parseStudentRow(ligne, passwordColumnIndex[0] >= 0, passwordColumnIndex[0], i);
                     if (student != null) {
-                        students.add(student);
+                        courant.add(student);
+                        compteurs[1]++;
                         log.info("Row {} - Student successfully created: {} {}", i,
-                                student.getUser().getPrenom(), student.getUser().getNom());
+                                student.entite().getUser().getPrenom(), student.entite().getUser().getNom());
                     }
                 } catch (Exception e) {
                     log.error("Error importing student from row {}: {}", i, e.getMessage(), e);
                 }
+
+                if (courant.size() >= tailleLot) {
+                    lot.accept(new ArrayList<>(courant));
+                    courant.clear();
+                }
+            });
+
+            if (!courant.isEmpty()) {
+                lot.accept(new ArrayList<>(courant));
             }
 
-            log.info("Import completed - Processed rows: {}, Successful imports: {}", processedRows, students.size());
+            log.info("Import completed - Processed rows: {}, Successful imports: {}", compteurs[0], compteurs[1]);
         } catch (Exception ex) {
             log.error("Failed to import Excel file", ex);
             throw new RuntimeException("Failed to import Excel file", ex);
         }
-        return students;
     }
 
-    private static Student parseStudentRow(Row row, boolean hasPasswordColumn, int passwordColumnIndex, int rowNum) {
-        String prenom = getCellValueAsString(row.getCell(0));
-        String nom = getCellValueAsString(row.getCell(1));
-        String matricule = getCellValueAsString(row.getCell(2));
-        String email = getCellValueAsString(row.getCell(3));
-        String telephone = getCellValueAsString(row.getCell(4));
+    private static LigneImportee<Student> parseStudentRow(ExcelStreamReader.Ligne row, boolean hasPasswordColumn, int passwordColumnIndex, int rowNum) {
+        String prenom = row.get(0);
+        String nom = row.get(1);
+        String matricule = row.get(2);
+        String email = row.get(3);
+        String telephone = row.get(4);
 
         log.info("Row {} - Essential fields: prenom='{}', nom='{}', matricule='{}', email='{}'",
                 rowNum, prenom, nom, matricule, email);
@@ -428,7 +399,7 @@ public class ExcelUtils {
         String passwordPlain = null;
         int dateIndex = 5;
         if (hasPasswordColumn) {
-            passwordPlain = getCellValueAsString(row.getCell(passwordColumnIndex));
+            passwordPlain = row.get(passwordColumnIndex);
             dateIndex = passwordColumnIndex + 1;
             log.info("Row {} - Password column found: '{}'", rowNum, passwordPlain);
         }
@@ -444,12 +415,10 @@ public class ExcelUtils {
         }
 
         String passwordToUse = isNullOrEmpty(passwordPlain) ? matricule.trim() : passwordPlain.trim();
-        String hashedPassword = PASSWORD_ENCODER.encode(passwordToUse);
         log.info("Row {} - Password will be: {}", rowNum, passwordToUse);
 
         User user = User.builder()
                 .email(email.trim())
-                .passwordHash(hashedPassword)
                 .role(Role.ETUDIANT)
                 .nom(nom.trim())
                 .prenom(prenom.trim())
@@ -457,7 +426,7 @@ public class ExcelUtils {
                 .image(null)
                 .build();
 
-        return Student.builder()
+        Student student = Student.builder()
                 .user(user)
                 .matricule(matricule.trim())
                 .dateNaissance(data.dateNaissance)
@@ -474,24 +443,25 @@ public class ExcelUtils {
                 .bourse(data.bourse)
                 .handicap(data.handicap)
                 .build();
+        return new LigneImportee<>(rowNum, student, passwordToUse);
     }
 
-    private static StudentData extractStudentData(Row row, int dateIndex, int rowNum) {
+    private static StudentData extractStudentData(ExcelStreamReader.Ligne row, int dateIndex, int rowNum) {
         StudentData data = new StudentData();
 
-        String dateNaissanceStr = getCellValueAsString(row.getCell(dateIndex));
-        data.lieuNaissance = getCellValueAsString(row.getCell(dateIndex + 1));
-        String sexeStr = getCellValueAsString(row.getCell(dateIndex + 2));
-        data.nationalite = getCellValueAsString(row.getCell(dateIndex + 3));
-        data.adresse = getCellValueAsString(row.getCell(dateIndex + 4));
-        data.ville = getCellValueAsString(row.getCell(dateIndex + 5));
-        data.situationFamiliale = getCellValueAsString(row.getCell(dateIndex + 6));
-        String niveauStr = getCellValueAsString(row.getCell(dateIndex + 7));
-        data.groupe = getCellValueAsString(row.getCell(dateIndex + 8));
-        data.anneeAcademique = getCellValueAsString(row.getCell(dateIndex + 9));
-        String statutStr = getCellValueAsString(row.getCell(dateIndex + 10));
-        String bourseStr = getCellValueAsString(row.getCell(dateIndex + 11));
-        String handicapStr = getCellValueAsString(row.getCell(dateIndex + 12));
+        String dateNaissanceStr = row.get(dateIndex);
+        data.lieuNaissance = row.get(dateIndex + 1);
+        String sexeStr = row.get(dateIndex + 2);
+        data.nationalite = row.get(dateIndex + 3);
+        data.adresse = row.get(dateIndex + 4);
+        data.ville = row.get(dateIndex + 5);
+        data.situationFamiliale = row.get(dateIndex + 6);
+        String niveauStr = row.get(dateIndex + 7);
+        data.groupe = row.get(dateIndex + 8);
+        data.anneeAcademique = row.get(dateIndex + 9);
+        String statutStr = row.get(dateIndex + 10);
+        String bourseStr = row.get(dateIndex + 11);
+        String handicapStr = row.get(dateIndex + 12);
 
         if (!isNullOrEmpty(dateNaissanceStr)) {
             try {
@@ -569,24 +539,11 @@ public class ExcelUtils {
         return YesOrNo.No;
     }
 
-    private static boolean isRowEmpty(Row row) {
-        if (row == null) {
-            return true;
-        }
-        for (int c = 0; c < 4; c++) {
-            Cell cell = row.getCell(c);
-            if (cell != null && cell.getCellType() != CellType.BLANK && !isNullOrEmpty(getCellValueAsString(cell))) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private static boolean isNullOrEmpty(String str) {
         return str == null || str.trim().isEmpty();
     }
 
-    private static String getCellValueAsString(Cell cell) {
+    static String getCellValueAsString(Cell cell) {
         if (cell == null || cell.getCellType() == CellType.BLANK) {
             return null;
         }
@@ -640,7 +597,7 @@ public class ExcelUtils {
         return false;
     }
 
-    private static LocalDate parseCellDate(Cell cell) {
+    static LocalDate parseCellDate(Cell cell) {
         if (cell == null || cell.getCellType() == CellType.BLANK) {
             return null;
         }
@@ -654,7 +611,7 @@ public class ExcelUtils {
         return null;
     }
 
-    private static <E extends Enum<E>> E parseEnum(Cell cell, Class<E> enumClass) {
+    static <E extends Enum<E>> E parseEnum(Cell cell, Class<E> enumClass) {
         String value = getCellValueAsString(cell);
         if (value == null) {
             return null;
@@ -666,53 +623,82 @@ public class ExcelUtils {
         }
     }
 
-    public static byte[] exportStudents(List<Student> students) {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Students");
+    public static void exportStudents(OutputStream out, Iterable<List<Student>> pages) throws IOException {
+        exportStreaming(out, "Students", STUDENT_COLUMNS, pages, s -> new Object[]{
+                s.getUser().getPrenom(),
+                s.getUser().getNom(),
+                s.getMatricule(),
+                s.getUser().getEmail(),
+                s.getUser().getTelephone(),
+                s.getDateNaissance() != null ? s.getDateNaissance().toString() : "",
+                s.getLieuNaissance() != null ? s.getLieuNaissance() : "",
+                s.getSexe() != null ? s.getSexe().name() : "",
+                s.getNationalite() != null ? s.getNationalite() : "",
+                s.getAdresse() != null ? s.getAdresse() : "",
+                s.getVille() != null ? s.getVille() : "",
+                s.getSituationFamiliale() != null ? s.getSituationFamiliale() : "",
+                s.getNiveau() != null ? s.getNiveau().name() : "",
+                s.getGroupe() != null ? s.getGroupe() : "",
+                s.getAnneeAcademique() != null ? s.getAnneeAcademique() : "",
+                s.getStatut() != null ? s.getStatut().name() : "",
+                s.getBourse() != null ? s.getBourse().name() : "",
+                s.getHandicap() != null ? s.getHandicap().name() : ""
+        });
+    }
+
+    private static <T> void exportStreaming(OutputStream out, String sheetName, String[] columns,
+                                            Iterable<List<T>> pages, Function<T, Object[]> ligne) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+            int[] largeurs = new int[columns.length];
             Row header = sheet.createRow(0);
-            String[] columns = {
-                    "prenom", "nom", "matricule", "email", "telephone", "dateNaissance",
-                    "lieuNaissance", "sexe", "nationalite", "adresse", "ville",
-                    "situationFamiliale", "niveau", "groupe", "anneeAcademique",
-                    "statut", "bourse", "handicap"
-            };
-
             for (int i = 0; i < columns.length; i++) {
                 header.createCell(i).setCellValue(columns[i]);
+                largeurs[i] = columns[i].length();
             }
 
             int rowNum = 1;
-            for (Student s : students) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(s.getUser().getPrenom());
-                row.createCell(1).setCellValue(s.getUser().getNom());
-                row.createCell(2).setCellValue(s.getMatricule());
-                row.createCell(3).setCellValue(s.getUser().getEmail());
-                row.createCell(4).setCellValue(s.getUser().getTelephone());
-                row.createCell(5).setCellValue(s.getDateNaissance() != null ? s.getDateNaissance().toString() : "");
-                row.createCell(6).setCellValue(s.getLieuNaissance() != null ? s.getLieuNaissance() : "");
-                row.createCell(7).setCellValue(s.getSexe() != null ? s.getSexe().name() : "");
-                row.createCell(8).setCellValue(s.getNationalite() != null ? s.getNationalite() : "");
-                row.createCell(9).setCellValue(s.getAdresse() != null ? s.getAdresse() : "");
-                row.createCell(10).setCellValue(s.getVille() != null ? s.getVille() : "");
-                row.createCell(11).setCellValue(s.getSituationFamiliale() != null ? s.getSituationFamiliale() : "");
-                row.createCell(12).setCellValue(s.getNiveau() != null ? s.getNiveau().name() : "");
-                row.createCell(13).setCellValue(s.getGroupe() != null ? s.getGroupe() : "");
-                row.createCell(14).setCellValue(s.getAnneeAcademique() != null ? s.getAnneeAcademique() : "");
-                row.createCell(15).setCellValue(s.getStatut() != null ? s.getStatut().name() : "");
-                row.createCell(16).setCellValue(s.getBourse() != null ? s.getBourse().name() : "");
-                row.createCell(17).setCellValue(s.getHandicap() != null ? s.getHandicap().name() : "");
+            for (List<T> page : pages) {
+                for (T item : page) {
+                    Object[] valeurs = ligne.apply(item);
+                    Row row = sheet.createRow(rowNum);
+                    for (int i = 0; i < valeurs.length; i++) {
+                        String texte = ecrireCellule(row.createCell(i), valeurs[i]);
+                        if (rowNum <= WIDTH_SAMPLE_ROWS) {
+                            largeurs[i] = Math.max(largeurs[i], texte.length());
+                        }
+                    }
+                    rowNum++;
+                }
             }
 
             for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
+                sheet.setColumnWidth(i, Math.min(largeurs[i] + 2, MAX_COLUMN_CHARS) * 256);
             }
 
-            workbook.write(baos);
-            return baos.toByteArray();
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to export Excel file", ex);
+            workbook.write(out);
+            log.info("Export {} terminé - {} lignes", sheetName, rowNum - 1);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static String ecrireCellule(Cell cell, Object valeur) {
+        if (valeur == null) {
+            cell.setCellValue("");
+            return "";
+        }
+        if (valeur instanceof Number nombre) {
+            cell.setCellValue(nombre.doubleValue());
+        } else if (valeur instanceof Boolean booleen) {
+            cell.setCellValue(booleen);
+        } else {
+            cell.setCellValue(valeur.toString());
         }
+        return valeur.toString();
     }
 
     private static class StudentData {
@@ -0,0 +1,65 @@
+package com.iseem_backend.application.utils;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.PdfCopy;
+import com.itextpdf.text.pdf.PdfReader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public final class FusionPdf {
+
+    private FusionPdf() {
+    }
+
+    public static <T> boolean ecrire(Iterable<List<T>> lots, int tailleGroupe, RenduGroupe<T> rendu,
+                                     OutputStream out, ExecutorService executeur) throws IOException {
+        Document document = new Document(PageSize.A4);
+        PdfCopy copie = null;
+        try {
+            for (List<T> lot : lots) {
+                List<Callable<byte[]>> groupes = new ArrayList<>();
+                for (int debut = 0; debut < lot.size(); debut += tailleGroupe) {
+                    List<T> groupe = lot.subList(debut, Math.min(debut + tailleGroupe, lot.size()));
+                    groupes.add(() -> rendu.rendre(groupe));
+                }
+                for (Future<byte[]> pages : executeur.invokeAll(groupes)) {
+                    if (copie == null) {
+                        copie = new PdfCopy(document, out);
+                        copie.setCloseStream(false);
+                        document.open();
+                    }
+                    PdfReader reader = new PdfReader(pages.get());
+                    copie.addDocument(reader);
+                    copie.freeReader(reader);
+                    reader.close();
+                }
+            }
+            if (copie == null) {
+                return false;
+            }
+            document.close();
+            return true;
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Génération du document interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Erreur lors de la génération du document", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface RenduGroupe<T> {
+        byte[] rendre(List<T> groupe) throws Exception;
+    }
+}
@@ -0,0 +1,57 @@
+package com.iseem_backend.application.utils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class KeysetPages<T> implements Iterable<List<T>> {
+
+    public static final int TAILLE_PAGE = 500;
+    private static final UUID DEBUT = new UUID(0L, 0L);
+
+    private final Function<UUID, List<T>> chargeur;
+    private final Function<T, UUID> cle;
+
+    public KeysetPages(Function<UUID, List<T>> chargeur, Function<T, UUID> cle) {
+        this.chargeur = chargeur;
+        this.cle = cle;
+    }
+
+    @Override
+    public Iterator<List<T>> iterator() {
+        return new Iterator<>() {
+            private UUID apres = DEBUT;
+            private List<T> suivante;
+            private boolean termine;
+
+            @Override
+            public boolean hasNext() {
+                if (suivante == null && !termine) {
+                    List<T> page = chargeur.apply(apres);
+                    if (page == null || page.isEmpty()) {
+                        termine = true;
+                    } else {
+                        suivante = page;
+                        apres = cle.apply(page.get(page.size() - 1));
+                    }
+                }
+                return suivante != null;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> page = suivante;
+                suivante = null;
+                if (page.size() < TAILLE_PAGE) {
+                    termine = true;
+                }
+                return page;
+            }
+        };
+    }
+}
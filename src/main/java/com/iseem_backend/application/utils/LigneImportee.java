@@ -0,0 +1,4 @@
+package com.iseem_backend.application.utils;
+
+public record LigneImportee<T>(int ligne, T entite, String motDePasse) {
+}
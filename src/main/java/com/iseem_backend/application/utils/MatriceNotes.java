@@ -0,0 +1,234 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeNote;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class MatriceNotes {
+
+    private static final int NB_TYPES = TypeNote.values().length;
+    private static final int C1 = TypeNote.C1.ordinal();
+    private static final int C2 = TypeNote.C2.ordinal();
+    private static final int EXAMEN_TH = TypeNote.EXAMEN_TH.ordinal();
+    private static final int EXAMEN_PR = TypeNote.EXAMEN_PR.ordinal();
+    private static final int ABSENTE = -1;
+
+    private final String anneeScolaire;
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> indexEtudiants = new HashMap<>();
+    private UUID[] etudiants = new UUID[64];
+    private byte[] niveaux = new byte[64];
+    private String[] groupes = new String[64];
+    private String[] matricules = new String[64];
+    private String[] noms = new String[64];
+    private String[] prenoms = new String[64];
+    private short[][] valeurs = new short[64][];
+    private long[][] presences = new long[64][];
+    private int nbEtudiants;
+
+    private final Map<UUID, Integer> indexModules = new HashMap<>();
+    private short[] coefficients = new short[16];
+    private int nbModules;
+    private int capaciteModules = 16;
+
+    public MatriceNotes(String anneeScolaire) {
+        this.anneeScolaire = anneeScolaire;
+    }
+
+    public String getAnneeScolaire() {
+        return anneeScolaire;
+    }
+
+    public void definirEtudiant(UUID studentId, Niveau niveau, String groupe, String matricule, String nom, String prenom) {
+        verrou.writeLock().lock();
+        try {
+            Integer index = indexEtudiants.get(studentId);
+            if (index == null) {
+                if (nbEtudiants == etudiants.length) {
+                    agrandirEtudiants(nbEtudiants * 2);
+                }
+                index = nbEtudiants++;
+                indexEtudiants.put(studentId, index);
+                etudiants[index] = studentId;
+                valeurs[index] = new short[capaciteModules * NB_TYPES];
+                presences[index] = new long[bitmap(capaciteModules)];
+            }
+            niveaux[index] = niveau != null ? (byte) niveau.ordinal() : -1;
+            groupes[index] = groupe;
+            matricules[index] = matricule;
+            noms[index] = nom;
+            prenoms[index] = prenom;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public void definirModule(UUID moduleId, BigDecimal coefficient) {
+        verrou.writeLock().lock();
+        try {
+            Integer index = indexModules.get(moduleId);
+            if (index == null) {
+                if (nbModules == capaciteModules) {
+                    agrandirModules(capaciteModules * 2);
+                }
+                index = nbModules++;
+                indexModules.put(moduleId, index);
+            }
+            coefficients[index] = coefficient != null
+                    ? coefficient.movePointRight(1).setScale(0, RoundingMode.HALF_UP).shortValueExact() : 0;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public boolean definirNote(UUID studentId, UUID moduleId, TypeNote typeNote, BigDecimal valeur) {
+        verrou.writeLock().lock();
+        try {
+            Integer etudiant = indexEtudiants.get(studentId);
+            Integer module = indexModules.get(moduleId);
+            if (etudiant == null || module == null) {
+                return false;
+            }
+            int cellule = module * NB_TYPES + typeNote.ordinal();
+            long[] presence = presences[etudiant];
+            if (valeur == null) {
+                presence[cellule >>> 6] &= ~(1L << cellule);
+                valeurs[etudiant][cellule] = 0;
+            } else {
+                presence[cellule >>> 6] |= 1L << cellule;
+                valeurs[etudiant][cellule] = valeur.movePointRight(2).setScale(0, RoundingMode.HALF_UP).shortValueExact();
+            }
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public List<LigneClassement> classer(Niveau niveau, TypeNote typeEvaluation) {
+        verrou.readLock().lock();
+        try {
+            int[] cohorte = new int[nbEtudiants];
+            int[] moyennes = new int[nbEtudiants];
+            int effectif = 0;
+            for (int etudiant = 0; etudiant < nbEtudiants; etudiant++) {
+                if (niveaux[etudiant] == niveau.ordinal()) {
+                    cohorte[effectif++] = etudiant;
+                    moyennes[etudiant] = moyenneGenerale(etudiant, typeEvaluation.ordinal());
+                }
+            }
+
+            Integer[] ordre = new Integer[effectif];
+            Map<String, int[]> rangsGroupes = new HashMap<>();
+            for (int i = 0; i < effectif; i++) {
+                ordre[i] = cohorte[i];
+                rangsGroupes.computeIfAbsent(Objects.toString(groupes[cohorte[i]], ""), g -> new int[4])[0]++;
+            }
+            Arrays.sort(ordre, Comparator.<Integer>comparingInt(e -> -moyennes[e])
+                    .thenComparing(e -> noms[e], Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(e -> prenoms[e], Comparator.nullsLast(Comparator.naturalOrder())));
+
+            List<LigneClassement> lignes = new ArrayList<>(effectif);
+            int rangNiveau = 0;
+            for (int position = 0; position < effectif; position++) {
+                int etudiant = ordre[position];
+                int moyenne = moyennes[etudiant];
+                if (position == 0 || moyennes[ordre[position - 1]] != moyenne) {
+                    rangNiveau = position + 1;
+                }
+                int[] groupe = rangsGroupes.get(Objects.toString(groupes[etudiant], ""));
+                groupe[1]++;
+                if (groupe[1] == 1 || groupe[3] != moyenne) {
+                    groupe[2] = groupe[1];
+                    groupe[3] = moyenne;
+                }
+                lignes.add(new LigneClassement(etudiants[etudiant], matricules[etudiant], noms[etudiant],
+                        prenoms[etudiant], groupes[etudiant], BigDecimal.valueOf(moyenne, 2), rangNiveau, effectif,
+                        groupe[2], groupe[0]));
+            }
+            return lignes;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    private int moyenneGenerale(int etudiant, int typeEvaluation) {
+        short[] ligne = valeurs[etudiant];
+        long[] presence = presences[etudiant];
+        long sommePonderee = 0;
+        long sommeCoefficients = 0;
+        for (int module = 0; module < nbModules; module++) {
+            int moyenne = moyenneModule(ligne, presence, module * NB_TYPES, typeEvaluation);
+            if (moyenne != ABSENTE) {
+                sommePonderee += (long) moyenne * coefficients[module];
+                sommeCoefficients += coefficients[module];
+            }
+        }
+        if (sommeCoefficients == 0) {
+            return 0;
+        }
+        return (int) ((2 * sommePonderee + sommeCoefficients) / (2 * sommeCoefficients));
+    }
+
+    private static int moyenneModule(short[] ligne, long[] presence, int base, int typeEvaluation) {
+        if (typeEvaluation == EXAMEN_TH) {
+            int th = lire(ligne, presence, base + EXAMEN_TH);
+            int c1 = lire(ligne, presence, base + C1);
+            int c2 = lire(ligne, presence, base + C2);
+            if (th == ABSENTE || c1 == ABSENTE || c2 == ABSENTE) {
+                return th;
+            }
+            int controles = (c1 + c2 + 1) / 2;
+            return (controles + th + 1) / 2;
+        }
+        if (typeEvaluation == C1 || typeEvaluation == C2 || typeEvaluation == EXAMEN_PR) {
+            return lire(ligne, presence, base + typeEvaluation);
+        }
+        return ABSENTE;
+    }
+
+    private static int lire(short[] ligne, long[] presence, int cellule) {
+        return (presence[cellule >>> 6] & (1L << cellule)) != 0 ? ligne[cellule] : ABSENTE;
+    }
+
+    private static int bitmap(int modules) {
+        return (modules * NB_TYPES + 63) >>> 6;
+    }
+
+    private void agrandirEtudiants(int capacite) {
+        etudiants = Arrays.copyOf(etudiants, capacite);
+        niveaux = Arrays.copyOf(niveaux, capacite);
+        groupes = Arrays.copyOf(groupes, capacite);
+        matricules = Arrays.copyOf(matricules, capacite);
+        noms = Arrays.copyOf(noms, capacite);
+        prenoms = Arrays.copyOf(prenoms, capacite);
+        valeurs = Arrays.copyOf(valeurs, capacite);
+        presences = Arrays.copyOf(presences, capacite);
+    }
+
+    private void agrandirModules(int capacite) {
+        coefficients = Arrays.copyOf(coefficients, capacite);
+        for (int etudiant = 0; etudiant < nbEtudiants; etudiant++) {
+            valeurs[etudiant] = Arrays.copyOf(valeurs[etudiant], capacite * NB_TYPES);
+            presences[etudiant] = Arrays.copyOf(presences[etudiant], bitmap(capacite));
+        }
+        capaciteModules = capacite;
+    }
+
+    public record LigneClassement(UUID studentId, String matricule, String nom, String prenom, String groupe,
+                                  BigDecimal moyenne, long rangNiveau, long effectifNiveau,
+                                  long rangGroupe, long effectifGroupe) {
+    }
+}
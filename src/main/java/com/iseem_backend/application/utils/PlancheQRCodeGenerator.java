@@ -0,0 +1,113 @@
+package com.iseem_backend.application.utils;
+
+import com.google.zxing.WriterException;
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+public class PlancheQRCodeGenerator {
+
+    public static final int QR_PAR_PAGE = 20;
+    private static final int QR_PAR_GROUPE = 4 * QR_PAR_PAGE;
+    private static final int COLONNES = 4;
+    private static final int LIGNES = QR_PAR_PAGE / COLONNES;
+
+    private static final float MARGE = 28;
+    private static final float LARGEUR_CASE = (PageSize.A4.getWidth() - 2 * MARGE) / COLONNES;
+    private static final float HAUTEUR_CASE = (PageSize.A4.getHeight() - 2 * MARGE) / LIGNES;
+    private static final float QR_TAILLE = 100;
+    private static final float QR_X = (LARGEUR_CASE - QR_TAILLE) / 2;
+    private static final float QR_Y = HAUTEUR_CASE - 12 - QR_TAILLE;
+    private static final float LARGEUR_TEXTE = LARGEUR_CASE - 12;
+
+    private static final BaseFont HELVETICA = police(BaseFont.HELVETICA);
+    private static final BaseFont HELVETICA_GRAS = police(BaseFont.HELVETICA_BOLD);
+    private static final BaseColor GRIS = new BaseColor(200, 200, 200);
+    private static final BaseColor GRIS_TEXTE = new BaseColor(90, 90, 90);
+
+    private PlancheQRCodeGenerator() {
+    }
+
+    public static void ecrire(Iterable<List<EtiquetteQRCode>> lots, OutputStream out, ExecutorService executeur) throws IOException {
+        if (!FusionPdf.ecrire(lots, QR_PAR_GROUPE, PlancheQRCodeGenerator::rendreGroupe, out, executeur)) {
+            throw new IllegalArgumentException("Aucun QR code à générer");
+        }
+    }
+
+    static byte[] rendreGroupe(List<EtiquetteQRCode> etiquettes) throws DocumentException, WriterException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 0, 0, 0, 0);
+        PdfWriter writer = PdfWriter.getInstance(document, baos);
+        document.open();
+        PdfContentByte contenu = writer.getDirectContent();
+        for (int i = 0; i < etiquettes.size(); i++) {
+            int position = i % QR_PAR_PAGE;
+            if (i > 0 && position == 0) {
+                document.newPage();
+            }
+            float x = MARGE + (position % COLONNES) * LARGEUR_CASE;
+            float y = PageSize.A4.getHeight() - MARGE - (position / COLONNES + 1) * HAUTEUR_CASE;
+            dessiner(contenu, etiquettes.get(i), x, y);
+        }
+        document.close();
+        return baos.toByteArray();
+    }
+
+    private static void dessiner(PdfContentByte contenu, EtiquetteQRCode etiquette, float x, float y) throws WriterException {
+        contenu.setColorStroke(GRIS);
+        contenu.setLineWidth(0.3f);
+        contenu.setLineDash(2, 2, 0);
+        contenu.rectangle(x, y, LARGEUR_CASE, HAUTEUR_CASE);
+        contenu.stroke();
+        contenu.setLineDash(0);
+
+        QRCodes.dessiner(contenu, etiquette.contenu(), x + QR_X, y + QR_Y, QR_TAILLE);
+
+        contenu.beginText();
+        contenu.setColorFill(BaseColor.BLACK);
+        contenu.setFontAndSize(HELVETICA_GRAS, 7.5f);
+        contenu.showTextAligned(Element.ALIGN_CENTER, tronquer(etiquette.titre(), HELVETICA_GRAS, 7.5f),
+                x + LARGEUR_CASE / 2, y + QR_Y - 12, 0);
+        contenu.setFontAndSize(HELVETICA, 7);
+        contenu.showTextAligned(Element.ALIGN_CENTER, tronquer(etiquette.sousTitre(), HELVETICA, 7),
+                x + LARGEUR_CASE / 2, y + QR_Y - 22, 0);
+        contenu.setColorFill(GRIS_TEXTE);
+        contenu.setFontAndSize(HELVETICA, 5);
+        contenu.showTextAligned(Element.ALIGN_CENTER, tronquer(etiquette.reference(), HELVETICA, 5),
+                x + LARGEUR_CASE / 2, y + QR_Y - 31, 0);
+        contenu.endText();
+    }
+
+    private static String tronquer(String valeur, BaseFont police, float taille) {
+        String texte = valeur != null ? valeur : "";
+        if (police.getWidthPoint(texte, taille) <= LARGEUR_TEXTE) {
+            return texte;
+        }
+        while (!texte.isEmpty() && police.getWidthPoint(texte + "…", taille) > LARGEUR_TEXTE) {
+            texte = texte.substring(0, texte.length() - 1);
+        }
+        return texte + "…";
+    }
+
+    private static BaseFont police(String nom) {
+        try {
+            return BaseFont.createFont(nom, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Police indisponible: " + nom, e);
+        }
+    }
+
+    public record EtiquetteQRCode(String contenu, String titre, String sousTitre, String reference) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.iseem_backend.application.utils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public final class Progression {
+
+    public static final IntConsumer IGNOREE = pourcentage -> {
+    };
+
+    private Progression() {
+    }
+
+    public static <T> Iterable<List<T>> suivre(Iterable<List<T>> lots, long total, IntConsumer progression) {
+        return () -> new Iterator<>() {
+            private final Iterator<List<T>> source = lots.iterator();
+            private long traites;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                List<T> lot = source.next();
+                signaler(traites, total, progression);
+                traites += lot.size();
+                return lot;
+            }
+        };
+    }
+
+    public static void signaler(long traites, long total, IntConsumer progression) {
+        if (total > 0) {
+            progression.accept((int) (traites * 100 / total));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.iseem_backend.application.utils;
+
+import com.iseem_backend.application.enums.StatutImport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class ProgressionImport {
+
+    private final String importId;
+    private final String type;
+    private final Instant debut = Instant.now();
+    private final AtomicInteger lignesLues = new AtomicInteger();
+    private final AtomicInteger motsDePasseHaches = new AtomicInteger();
+    private final AtomicInteger enregistres = new AtomicInteger();
+    private final AtomicInteger rejetes = new AtomicInteger();
+    private volatile StatutImport statut = StatutImport.EN_COURS;
+    private volatile Instant fin;
+    @Getter(AccessLevel.NONE)
+    private final Counter compteurLues;
+    @Getter(AccessLevel.NONE)
+    private final Counter compteurHaches;
+    @Getter(AccessLevel.NONE)
+    private final Counter compteurEnregistres;
+    @Getter(AccessLevel.NONE)
+    private final Counter compteurRejetes;
+
+    public ProgressionImport(String importId, String type, MeterRegistry registry) {
+        this.importId = importId;
+        this.type = type;
+        this.compteurLues = compteur(registry, type, "lues");
+        this.compteurHaches = compteur(registry, type, "hachees");
+        this.compteurEnregistres = compteur(registry, type, "enregistrees");
+        this.compteurRejetes = compteur(registry, type, "rejetees");
+    }
+
+    public void lignesLues(int nombre) {
+        lignesLues.addAndGet(nombre);
+        compteurLues.increment(nombre);
+    }
+
+    public void motDePasseHache() {
+        motsDePasseHaches.incrementAndGet();
+        compteurHaches.increment();
+    }
+
+    public void enregistre() {
+        enregistres.incrementAndGet();
+        compteurEnregistres.increment();
+    }
+
+    public void rejete() {
+        rejetes.incrementAndGet();
+        compteurRejetes.increment();
+    }
+
+    public void terminer() {
+        fin = Instant.now();
+        statut = StatutImport.TERMINE;
+    }
+
+    public void echouer() {
+        fin = Instant.now();
+        statut = StatutImport.ECHEC;
+    }
+
+    private static Counter compteur(MeterRegistry registry, String type, String etape) {
+        return Counter.builder("iseem.import.lignes")
+                .description("Lignes traitées par les imports Excel")
+                .tag("type", type)
+                .tag("etape", etape)
+                .register(registry);
+    }
+}
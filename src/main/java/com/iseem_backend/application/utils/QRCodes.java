@@ -0,0 +1,65 @@
+package com.iseem_backend.application.utils;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.pdf.PdfContentByte;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+public final class QRCodes {
+
+    private QRCodes() {
+    }
+
+    public static String empreinte(String contenu) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(contenu.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    public static byte[] png(String contenu, int taille) {
+        try {
+            BitMatrix matrice = new QRCodeWriter().encode(contenu, BarcodeFormat.QR_CODE, taille, taille);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(matrice, "PNG", baos);
+            return baos.toByteArray();
+        } catch (WriterException | IOException e) {
+            throw new RuntimeException("Erreur lors de la génération du QR code", e);
+        }
+    }
+
+    public static void dessiner(PdfContentByte contenu, String texte, float x, float y, float taille) throws WriterException {
+        BitMatrix matrice = new QRCodeWriter().encode(texte, BarcodeFormat.QR_CODE, 0, 0, Map.of(EncodeHintType.MARGIN, 0));
+        float module = taille / matrice.getWidth();
+        contenu.setColorFill(BaseColor.BLACK);
+        for (int ligne = 0; ligne < matrice.getHeight(); ligne++) {
+            int colonne = 0;
+            while (colonne < matrice.getWidth()) {
+                if (!matrice.get(colonne, ligne)) {
+                    colonne++;
+                    continue;
+                }
+                int debut = colonne;
+                while (colonne < matrice.getWidth() && matrice.get(colonne, ligne)) {
+                    colonne++;
+                }
+                contenu.rectangle(x + debut * module, y + taille - (ligne + 1) * module, (colonne - debut) * module, module);
+            }
+        }
+        contenu.fill();
+    }
+}
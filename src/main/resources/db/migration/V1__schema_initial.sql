@@ -0,0 +1,191 @@
+CREATE TABLE users (
+    user_id       UUID         NOT NULL PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    role          VARCHAR(255) NOT NULL,
+    nom           VARCHAR(255) NOT NULL,
+    prenom        VARCHAR(255) NOT NULL,
+    telephone     VARCHAR(255),
+    image         VARCHAR(255)
+);
+
+CREATE TABLE students (
+    user_id             UUID         NOT NULL PRIMARY KEY REFERENCES users (user_id),
+    matricule           VARCHAR(255) UNIQUE,
+    date_naissance      DATE,
+    lieu_naissance      VARCHAR(255),
+    sexe                VARCHAR(255),
+    nationalite         VARCHAR(255),
+    adresse             TEXT,
+    ville               VARCHAR(255),
+    situation_familiale VARCHAR(255),
+    niveau              VARCHAR(255),
+    groupe              VARCHAR(255),
+    annee_academique    VARCHAR(255),
+    statut              VARCHAR(255),
+    bourse              VARCHAR(255),
+    handicap            VARCHAR(255)
+);
+
+CREATE TABLE enseignants (
+    enseignant_id     UUID         NOT NULL PRIMARY KEY,
+    user_id           UUID         NOT NULL UNIQUE REFERENCES users (user_id),
+    specialite        TEXT         NOT NULL,
+    date_embauche     DATE,
+    status_enseignant VARCHAR(255) NOT NULL,
+    heures_travail    NUMERIC(21),
+    day               INTEGER,
+    start_time        TIME(6),
+    end_time          TIME(6)
+);
+
+CREATE TABLE diplome (
+    id_diplome           UUID    NOT NULL PRIMARY KEY,
+    type_diplome         VARCHAR(255),
+    custom_diplome_label VARCHAR(255),
+    niveau               TEXT,
+    nom_diplome          VARCHAR(255),
+    annee_obtention      INTEGER,
+    est_valide           BOOLEAN NOT NULL,
+    mention              VARCHAR(255),
+    date_delivrance      DATE,
+    signature_admin_id   UUID REFERENCES users (user_id),
+    qr_code_url          VARCHAR(255),
+    fichier_diplome      OID,
+    commentaire          TEXT,
+    mode_remise          VARCHAR(255),
+    student_id           UUID REFERENCES students (user_id)
+);
+
+CREATE TABLE diplome_enseigant (
+    id_diplome    UUID NOT NULL REFERENCES diplome (id_diplome),
+    id_enseignant UUID NOT NULL REFERENCES enseignants (enseignant_id),
+    PRIMARY KEY (id_diplome, id_enseignant)
+);
+
+CREATE TABLE modules (
+    id_module     UUID          NOT NULL PRIMARY KEY,
+    nom           VARCHAR(255)  NOT NULL,
+    coefficient   NUMERIC(3, 1) NOT NULL,
+    description   VARCHAR(255),
+    heures_total  INTEGER,
+    heures_cours  INTEGER,
+    heurestd      INTEGER,
+    heurestp      INTEGER,
+    note          NUMERIC(4, 2),
+    id_enseignant UUID REFERENCES enseignants (enseignant_id),
+    id_diplome    UUID REFERENCES diplome (id_diplome)
+);
+
+CREATE TABLE student_module (
+    student_id UUID NOT NULL REFERENCES students (user_id),
+    module_id  UUID NOT NULL REFERENCES modules (id_module),
+    PRIMARY KEY (student_id, module_id)
+);
+
+CREATE TABLE notes (
+    id_note           UUID         NOT NULL PRIMARY KEY,
+    student_id        UUID         NOT NULL REFERENCES students (user_id),
+    module_id         UUID         NOT NULL REFERENCES modules (id_module),
+    type_note         VARCHAR(255) NOT NULL,
+    valeur            NUMERIC(4, 2),
+    annee_scolaire    VARCHAR(255) NOT NULL,
+    date_creation     TIMESTAMP(6),
+    date_modification TIMESTAMP(6),
+    saisie_par        UUID REFERENCES users (user_id)
+);
+
+CREATE TABLE absence (
+    id_absence UUID NOT NULL PRIMARY KEY,
+    student_id UUID REFERENCES students (user_id),
+    id_module  UUID REFERENCES modules (id_module),
+    date       DATE NOT NULL,
+    reason     VARCHAR(255),
+    justified  BOOLEAN DEFAULT FALSE
+);
+
+CREATE TABLE custom_fields (
+    id            UUID         NOT NULL PRIMARY KEY,
+    field_name    VARCHAR(255) NOT NULL,
+    field_value   TEXT,
+    student_id    UUID REFERENCES students (user_id),
+    enseignant_id UUID REFERENCES enseignants (enseignant_id)
+);
+
+CREATE TABLE emploi_du_temps (
+    id UUID NOT NULL PRIMARY KEY
+);
+
+CREATE TABLE emploi_slot (
+    id          UUID NOT NULL PRIMARY KEY,
+    jour        VARCHAR(255),
+    heure_debut TIME(6),
+    heure_fin   TIME(6),
+    module      VARCHAR(255),
+    emploi_id   UUID REFERENCES emploi_du_temps (id)
+);
+
+CREATE TABLE formations (
+    id_formation       UUID NOT NULL PRIMARY KEY,
+    nom                VARCHAR(255),
+    duree              INTEGER,
+    cout               NUMERIC(38, 2),
+    emploi_du_temps_id UUID UNIQUE REFERENCES emploi_du_temps (id),
+    description        TEXT,
+    annee_formation    VARCHAR(255),
+    est_active         BOOLEAN,
+    mode_formation     VARCHAR(255),
+    niveau_acces       VARCHAR(255),
+    capacite_max       INTEGER
+);
+
+CREATE TABLE formation_enseignants (
+    formation_id  UUID NOT NULL REFERENCES formations (id_formation),
+    enseignant_id UUID NOT NULL REFERENCES enseignants (enseignant_id),
+    PRIMARY KEY (formation_id, enseignant_id)
+);
+
+CREATE TABLE paiment (
+    id_paiment             UUID NOT NULL PRIMARY KEY,
+    student_id             UUID REFERENCES students (user_id),
+    formation_id           UUID REFERENCES diplome (id_diplome),
+    cout_scolarite         NUMERIC(38, 2),
+    montant_paye           NUMERIC(38, 2),
+    resteapayer            NUMERIC(38, 2),
+    mode_paiement          VARCHAR(255),
+    etat_scolarite         VARCHAR(255),
+    date_dernier_paiement  DATE,
+    commentaire            VARCHAR(255),
+    numero_recu            VARCHAR(255),
+    fichier_recu           VARCHAR(255),
+    scan_recu              VARCHAR(255),
+    date_emission_recu     DATE,
+    emetteur_recu          VARCHAR(255)
+);
+
+CREATE TABLE categorie (
+    id_category   UUID         NOT NULL PRIMARY KEY,
+    category_name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE depenses (
+    id_depenses  UUID NOT NULL PRIMARY KEY,
+    categorie_id UUID REFERENCES categorie (id_category)
+);
+
+CREATE TABLE jobs (
+    id_job         UUID         NOT NULL PRIMARY KEY,
+    type           VARCHAR(255) NOT NULL,
+    statut         VARCHAR(255) NOT NULL,
+    progression    INTEGER      NOT NULL,
+    message        VARCHAR(1000),
+    nom_fichier    VARCHAR(255),
+    content_type   VARCHAR(255),
+    chemin_fichier VARCHAR(255),
+    taille         BIGINT,
+    demande_par    VARCHAR(255),
+    date_creation  TIMESTAMP(6) NOT NULL,
+    date_debut     TIMESTAMP(6),
+    date_fin       TIMESTAMP(6)
+);
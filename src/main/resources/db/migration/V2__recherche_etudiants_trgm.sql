@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_nom_trgm ON users USING gin (nom gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_prenom_trgm ON users USING gin (prenom gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_matricule_trgm ON students USING gin (matricule gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_nom_prenom_id ON users (nom, prenom, user_id);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_modules_enseignant ON modules (id_enseignant, id_module);
+CREATE INDEX IF NOT EXISTS idx_student_module_module ON student_module (module_id, student_id);
+CREATE INDEX IF NOT EXISTS idx_students_groupe ON students (groupe);
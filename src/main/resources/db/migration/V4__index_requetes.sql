@@ -0,0 +1,29 @@
+DELETE FROM notes n
+USING notes d
+WHERE n.student_id = d.student_id
+  AND n.module_id = d.module_id
+  AND n.type_note = d.type_note
+  AND n.annee_scolaire = d.annee_scolaire
+  AND (COALESCE(n.date_modification, n.date_creation, '-infinity'::timestamp), n.id_note)
+    < (COALESCE(d.date_modification, d.date_creation, '-infinity'::timestamp), d.id_note);
+
+ALTER TABLE notes
+    ADD CONSTRAINT uk_notes_etudiant_annee_module_type UNIQUE (student_id, annee_scolaire, module_id, type_note);
+
+CREATE INDEX IF NOT EXISTS idx_notes_module_annee ON notes (module_id, annee_scolaire) INCLUDE (student_id, type_note, valeur);
+CREATE INDEX IF NOT EXISTS idx_notes_saisie_par ON notes (saisie_par);
+
+CREATE INDEX IF NOT EXISTS idx_students_niveau_groupe ON students (niveau, groupe);
+
+CREATE INDEX IF NOT EXISTS idx_modules_diplome ON modules (id_diplome);
+
+CREATE INDEX IF NOT EXISTS idx_absence_student ON absence (student_id);
+CREATE INDEX IF NOT EXISTS idx_absence_module ON absence (id_module);
+CREATE INDEX IF NOT EXISTS idx_diplome_student ON diplome (student_id);
+CREATE INDEX IF NOT EXISTS idx_custom_fields_student ON custom_fields (student_id);
+CREATE INDEX IF NOT EXISTS idx_custom_fields_enseignant ON custom_fields (enseignant_id);
+CREATE INDEX IF NOT EXISTS idx_paiment_student ON paiment (student_id);
+CREATE INDEX IF NOT EXISTS idx_diplome_enseigant_enseignant ON diplome_enseigant (id_enseignant);
+CREATE INDEX IF NOT EXISTS idx_formation_enseignants_enseignant ON formation_enseignants (enseignant_id);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_date_creation ON jobs (date_creation);
@@ -0,0 +1,7 @@
+ALTER TABLE diplome
+    ADD COLUMN IF NOT EXISTS fichier_cle    VARCHAR(64),
+    ADD COLUMN IF NOT EXISTS fichier_nom    VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS fichier_type   VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS fichier_taille BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_diplome_fichier_cle ON diplome (fichier_cle);
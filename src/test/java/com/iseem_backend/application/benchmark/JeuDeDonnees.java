@@ -0,0 +1,254 @@
+package com.iseem_backend.application.benchmark;
+
+import com.iseem_backend.application.enums.Mention;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.Role;
+import com.iseem_backend.application.enums.Sex;
+import com.iseem_backend.application.enums.StatusEnseignant;
+import com.iseem_backend.application.enums.Statut;
+import com.iseem_backend.application.enums.TypeDiplome;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.enums.YesOrNo;
+import com.iseem_backend.application.model.CustomField;
+import com.iseem_backend.application.model.Diplome;
+import com.iseem_backend.application.model.Enseignant;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.model.Student;
+import com.iseem_backend.application.model.User;
+import com.iseem_backend.application.utils.TimeSlot;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+public final class JeuDeDonnees {
+
+    public static final String ANNEE_SCOLAIRE = "2024-2025";
+
+    private static final String[] NOMS = {"Alaoui", "Benali", "Chraibi", "Dahbi", "El Idrissi", "Fassi", "Guerraoui",
+            "Haddad", "Idrissi", "Jabri", "Kettani", "Lahlou", "Mansouri", "Naciri", "Ouazzani", "Rahmani", "Squalli",
+            "Tazi", "Zniber"};
+    private static final String[] PRENOMS = {"Amine", "Salma", "Youssef", "Imane", "Mehdi", "Sara", "Omar", "Nadia",
+            "Hamza", "Khadija", "Anas", "Meryem", "Karim", "Hiba", "Reda", "Zineb"};
+    private static final String[] VILLES = {"Casablanca", "Rabat", "Fès", "Marrakech", "Tanger", "Agadir", "Meknès"};
+    private static final String[] EN_TETES_ETUDIANTS = {"Prénom", "Nom", "Matricule", "Email", "Téléphone",
+            "Date de naissance", "Lieu de naissance", "Sexe", "Nationalité", "Adresse", "Ville", "Situation familiale",
+            "Niveau", "Groupe", "Année académique", "Statut", "Bourse", "Handicap"};
+
+    private JeuDeDonnees() {
+    }
+
+    public static List<Student> etudiants(int nombre, long graine) {
+        Random aleatoire = new Random(graine);
+        List<Student> etudiants = new ArrayList<>(nombre);
+        for (int i = 0; i < nombre; i++) {
+            etudiants.add(etudiant(i, aleatoire));
+        }
+        return etudiants;
+    }
+
+    public static Student etudiant(int index, Random aleatoire) {
+        UUID id = new UUID(aleatoire.nextLong(), aleatoire.nextLong());
+        User user = User.builder()
+                .userId(id)
+                .email("etudiant" + index + "@iseem.ma")
+                .passwordHash("$2a$10$abcdefghijklmnopqrstuv")
+                .role(Role.ETUDIANT)
+                .nom(choisir(NOMS, aleatoire))
+                .prenom(choisir(PRENOMS, aleatoire))
+                .telephone("06" + (10000000 + aleatoire.nextInt(89999999)))
+                .build();
+
+        Student student = Student.builder()
+                .userId(id)
+                .user(user)
+                .matricule(String.format("ISEEM%06d", index))
+                .dateNaissance(LocalDate.of(1998, 1, 1).plusDays(aleatoire.nextInt(3650)))
+                .lieuNaissance(choisir(VILLES, aleatoire))
+                .sexe(aleatoire.nextBoolean() ? Sex.male : Sex.female)
+                .nationalite("Marocaine")
+                .adresse(aleatoire.nextInt(200) + " boulevard Zerktouni")
+                .ville(choisir(VILLES, aleatoire))
+                .situationFamiliale("Célibataire")
+                .niveau(Niveau.values()[aleatoire.nextInt(Niveau.values().length)])
+                .groupe(String.valueOf((char) ('A' + aleatoire.nextInt(4))))
+                .anneeAcademique(ANNEE_SCOLAIRE)
+                .statut(Statut.Actif)
+                .bourse(aleatoire.nextInt(4) == 0 ? YesOrNo.Yes : YesOrNo.No)
+                .handicap(YesOrNo.No)
+                .build();
+
+        Set<CustomField> champs = new HashSet<>();
+        for (int c = 0; c < 3; c++) {
+            champs.add(CustomField.builder()
+                    .id(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                    .fieldName("champ" + c)
+                    .fieldValue("valeur " + aleatoire.nextInt(1000))
+                    .student(student)
+                    .build());
+        }
+        student.setCustomFields(champs);
+        return student;
+    }
+
+    public static List<Enseignant> enseignants(int nombre, int modulesParEnseignant, long graine) {
+        Random aleatoire = new Random(graine);
+        List<Enseignant> enseignants = new ArrayList<>(nombre);
+        for (int i = 0; i < nombre; i++) {
+            Enseignant enseignant = enseignant(i, aleatoire);
+            Set<Module> modules = new HashSet<>();
+            for (int m = 0; m < modulesParEnseignant; m++) {
+                Module module = module(i * modulesParEnseignant + m, aleatoire);
+                module.setEnseignant(enseignant);
+                modules.add(module);
+            }
+            enseignant.setModules(modules);
+            Set<Diplome> diplomes = new HashSet<>();
+            diplomes.add(diplome(aleatoire));
+            enseignant.setDiplomes(diplomes);
+            enseignants.add(enseignant);
+        }
+        return enseignants;
+    }
+
+    public static Enseignant enseignant(int index, Random aleatoire) {
+        User user = User.builder()
+                .userId(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .email("enseignant" + index + "@iseem.ma")
+                .passwordHash("$2a$10$abcdefghijklmnopqrstuv")
+                .role(Role.ENSEIGNANT)
+                .nom(choisir(NOMS, aleatoire))
+                .prenom(choisir(PRENOMS, aleatoire))
+                .telephone("06" + (10000000 + aleatoire.nextInt(89999999)))
+                .build();
+        Enseignant enseignant = Enseignant.builder()
+                .enseignantId(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .user(user)
+                .specialite("Informatique de gestion")
+                .dateEmbauche(LocalDate.of(2010, 9, 1).plusDays(aleatoire.nextInt(4000)))
+                .statusEnseignant(StatusEnseignant.values()[aleatoire.nextInt(StatusEnseignant.values().length)])
+                .heuresTravail(Duration.ofHours(20 + aleatoire.nextInt(20)))
+                .horaire(new TimeSlot(DayOfWeek.of(1 + aleatoire.nextInt(5)), LocalTime.of(8, 30), LocalTime.of(16, 30)))
+                .build();
+        Set<CustomField> champs = new HashSet<>();
+        champs.add(CustomField.builder()
+                .id(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .fieldName("bureau")
+                .fieldValue("B" + aleatoire.nextInt(300))
+                .enseignant(enseignant)
+                .build());
+        enseignant.setCustomFields(champs);
+        return enseignant;
+    }
+
+    public static List<Module> modules(int nombre, long graine) {
+        Random aleatoire = new Random(graine);
+        Enseignant enseignant = enseignant(0, aleatoire);
+        List<Module> modules = new ArrayList<>(nombre);
+        for (int i = 0; i < nombre; i++) {
+            Module module = module(i, aleatoire);
+            module.setEnseignant(enseignant);
+            modules.add(module);
+        }
+        return modules;
+    }
+
+    public static Module module(int index, Random aleatoire) {
+        return Module.builder()
+                .idModule(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .nom("Module " + index)
+                .coefficient(BigDecimal.valueOf(1 + aleatoire.nextInt(8), 1).add(BigDecimal.ONE))
+                .heuresTotal(60)
+                .heuresCours(30)
+                .heuresTD(20)
+                .heuresTP(10)
+                .build();
+    }
+
+    public static List<Note> notes(Student student, List<Module> modules, long graine) {
+        Random aleatoire = new Random(graine);
+        List<Note> notes = new ArrayList<>(modules.size() * 4);
+        for (Module module : modules) {
+            for (TypeNote type : new TypeNote[]{TypeNote.C1, TypeNote.C2, TypeNote.EXAMEN_TH, TypeNote.EXAMEN_PR}) {
+                notes.add(Note.builder()
+                        .idNote(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                        .student(student)
+                        .module(module)
+                        .typeNote(type)
+                        .valeur(BigDecimal.valueOf(aleatoire.nextInt(2001), 2).setScale(2, RoundingMode.HALF_UP))
+                        .anneeScolaire(ANNEE_SCOLAIRE)
+                        .build());
+            }
+        }
+        return notes;
+    }
+
+    public static Diplome diplome(Random aleatoire) {
+        User admin = User.builder()
+                .userId(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .email("admin@iseem.ma")
+                .role(Role.ADMINISTRATION)
+                .nom(choisir(NOMS, aleatoire))
+                .prenom(choisir(PRENOMS, aleatoire))
+                .build();
+        return Diplome.builder()
+                .idDiplome(new UUID(aleatoire.nextLong(), aleatoire.nextLong()))
+                .typeDiplome(TypeDiplome.LICENCE)
+                .nomDiplome("Licence en management")
+                .niveau("Bac+3")
+                .anneeObtention(2020 + aleatoire.nextInt(5))
+                .estValide(true)
+                .mention(Mention.values()[aleatoire.nextInt(Mention.values().length)])
+                .dateDelivrance(LocalDate.of(2024, 7, 1))
+                .signatureAdmin(admin)
+                .qrCodeUrl("https://iseem.ma/verification/" + UUID.randomUUID())
+                .commentaire("Diplôme délivré après délibération du jury")
+                .build();
+    }
+
+    public static byte[] classeurEtudiants(int lignes, long graine) throws IOException {
+        Random aleatoire = new Random(graine);
+        try (SXSSFWorkbook classeur = new SXSSFWorkbook(500);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet feuille = classeur.createSheet("Students");
+            Row entete = feuille.createRow(0);
+            for (int c = 0; c < EN_TETES_ETUDIANTS.length; c++) {
+                entete.createCell(c).setCellValue(EN_TETES_ETUDIANTS[c]);
+            }
+            for (int i = 1; i <= lignes; i++) {
+                Student s = etudiant(i, aleatoire);
+                Object[] valeurs = {s.getUser().getPrenom(), s.getUser().getNom(), s.getMatricule(),
+                        s.getUser().getEmail(), s.getUser().getTelephone(), s.getDateNaissance().toString(),
+                        s.getLieuNaissance(), s.getSexe().name(), s.getNationalite(), s.getAdresse(), s.getVille(),
+                        s.getSituationFamiliale(), s.getNiveau().name(), s.getGroupe(), s.getAnneeAcademique(),
+                        s.getStatut().name(), s.getBourse().name(), s.getHandicap().name()};
+                Row ligne = feuille.createRow(i);
+                for (int c = 0; c < valeurs.length; c++) {
+                    ligne.createCell(c).setCellValue(String.valueOf(valeurs[c]));
+                }
+            }
+            classeur.write(out);
+            classeur.dispose();
+            return out.toByteArray();
+        }
+    }
+
+    private static String choisir(String[] valeurs, Random aleatoire) {
+        return valeurs[aleatoire.nextInt(valeurs.length)];
+    }
+}
@@ -0,0 +1,186 @@
+package com.iseem_backend.application.repository;
+
+import com.iseem_backend.application.DTO.response.DiplomeResponse;
+import com.iseem_backend.application.DTO.response.EnseignantResponse;
+import com.iseem_backend.application.DTO.response.FormationResponse;
+import com.iseem_backend.application.enums.Role;
+import com.iseem_backend.application.enums.StatusEnseignant;
+import com.iseem_backend.application.enums.TypeDiplome;
+import com.iseem_backend.application.mapper.DiplomeMapper;
+import com.iseem_backend.application.mapper.EnseignantMapper;
+import com.iseem_backend.application.mapper.FormationMapper;
+import com.iseem_backend.application.model.CustomField;
+import com.iseem_backend.application.model.Diplome;
+import com.iseem_backend.application.model.EmploiDuTemps;
+import com.iseem_backend.application.model.Enseignant;
+import com.iseem_backend.application.model.Formation;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EnseignantMapper.class, FormationMapper.class, DiplomeMapper.class})
+@Testcontainers
+class RequetesDetailTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EnseignantRepository enseignantRepository;
+
+    @Autowired
+    private FormationRepository formationRepository;
+
+    @Autowired
+    private DiplomeRepository diplomeRepository;
+
+    @Autowired
+    private EnseignantMapper enseignantMapper;
+
+    @Autowired
+    private FormationMapper formationMapper;
+
+    @Autowired
+    private DiplomeMapper diplomeMapper;
+
+    private Statistics statistiques;
+    private Enseignant enseignant;
+    private Formation formation;
+    private Diplome diplome;
+
+    @BeforeEach
+    void preparer() {
+        User admin = entityManager.persist(utilisateur(Role.ADMINISTRATION));
+        enseignant = enseignant(utilisateur(Role.ENSEIGNANT), 3, 2);
+        Enseignant collegue = enseignant(utilisateur(Role.ENSEIGNANT), 1, 1);
+
+        diplome = new Diplome();
+        diplome.setTypeDiplome(TypeDiplome.LICENCE);
+        diplome.setNomDiplome("Licence informatique");
+        diplome.setAnneeObtention(2024);
+        diplome.setSignatureAdmin(admin);
+        diplome.setProfesseurs(Set.of(enseignant, collegue));
+        entityManager.persist(diplome);
+
+        Diplome autre = new Diplome();
+        autre.setTypeDiplome(TypeDiplome.MASTER);
+        autre.setNomDiplome("Master finance");
+        autre.setProfesseurs(Set.of(enseignant));
+        entityManager.persist(autre);
+
+        formation = Formation.builder()
+                .nom("Comptabilité")
+                .duree(12)
+                .cout(new BigDecimal("15000.00"))
+                .estActive(true)
+                .enseignants(Set.of(enseignant, collegue))
+                .emploiDuTemps(new EmploiDuTemps())
+                .build();
+        entityManager.persist(formation);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistiques = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistiques.clear();
+    }
+
+    @Test
+    void obtenirEnseignantParIdChargeChaqueCollectionUneFois() {
+        EnseignantResponse response = enseignantMapper.toDto(
+                enseignantRepository.findDetailById(enseignant.getEnseignantId()).orElseThrow());
+
+        assertThat(response.getModuleIds()).hasSize(3);
+        assertThat(response.getCustomFields()).hasSize(2);
+        assertThat(response.getDiplomeIds()).hasSize(2);
+        assertThat(statistiques.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void obtenirFormationParIdTientEnUneRequete() {
+        FormationResponse response = formationMapper.toDto(
+                formationRepository.findDetailById(formation.getIdFormation()).orElseThrow());
+
+        assertThat(response.getEnseignantsIds()).hasSize(2);
+        assertThat(response.getEmploiDuTempsId()).isNotNull();
+        assertThat(statistiques.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void obtenirDiplomeParIdTientEnUneRequete() {
+        DiplomeResponse response = diplomeMapper.toDto(
+                diplomeRepository.findDetailById(diplome.getIdDiplome()).orElseThrow());
+
+        assertThat(response.getProfesseursIds()).hasSize(2);
+        assertThat(response.getSignatureAdminId()).isNotNull();
+        assertThat(statistiques.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User utilisateur(Role role) {
+        return User.builder()
+                .email(UUID.randomUUID() + "@iseem.ma")
+                .passwordHash("x")
+                .role(role)
+                .nom("Nom")
+                .prenom("Prenom")
+                .build();
+    }
+
+    private Enseignant enseignant(User user, int modules, int champs) {
+        Enseignant e = Enseignant.builder()
+                .user(entityManager.persist(user))
+                .specialite("Gestion")
+                .statusEnseignant(StatusEnseignant.permanent)
+                .modules(new HashSet<>())
+                .diplomes(new HashSet<>())
+                .customFields(new HashSet<>())
+                .build();
+        for (int i = 0; i < modules; i++) {
+            e.getModules().add(Module.builder()
+                    .nom("Module " + i)
+                    .coefficient(BigDecimal.ONE)
+                    .enseignant(e)
+                    .build());
+        }
+        for (int i = 0; i < champs; i++) {
+            e.getCustomFields().add(CustomField.builder()
+                    .fieldName("champ" + i)
+                    .fieldValue("valeur" + i)
+                    .enseignant(e)
+                    .build());
+        }
+        return entityManager.persist(e);
+    }
+}
@@ -0,0 +1,132 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.request.ModuleRequest;
+import com.iseem_backend.application.DTO.response.ClassementResponse;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.Role;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.model.Student;
+import com.iseem_backend.application.model.User;
+import com.iseem_backend.application.repository.ModuleRepository;
+import com.iseem_backend.application.repository.NoteRepository;
+import com.iseem_backend.application.repository.StudentRepository;
+import com.iseem_backend.application.repository.UserRepository;
+import com.iseem_backend.application.service.ModuleService;
+import com.iseem_backend.application.service.NoteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class ClassementModuleTest {
+
+    private static final String ANNEE = "2024-2025";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @WithMockUser(roles = "ADMINISTRATION")
+    void modifierUnCoefficientRecalculeLeClassement() {
+        Module theorie = module("Théorie");
+        Module pratique = module("Pratique");
+        Student alaoui = etudiant("Alaoui", "Amine");
+        Student benali = etudiant("Benali", "Salma");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            note(alaoui, theorie, "18");
+            note(alaoui, pratique, "6");
+            note(benali, theorie, "8");
+            note(benali, pratique, "14");
+        });
+
+        List<ClassementResponse> avant = noteService.obtenirClassement(Niveau.premiere_annee, null, ANNEE, TypeNote.C1);
+        assertThat(avant).extracting(ClassementResponse::getStudentId)
+                .containsExactly(alaoui.getUserId(), benali.getUserId());
+        assertThat(avant.get(0).getMoyenneGenerale()).isEqualByComparingTo("12.00");
+
+        moduleService.modifierModule(pratique.getIdModule(), ModuleRequest.builder()
+                .nom(pratique.getNom())
+                .coefficient(new BigDecimal("3"))
+                .build());
+
+        List<ClassementResponse> apres = noteService.obtenirClassement(Niveau.premiere_annee, null, ANNEE, TypeNote.C1);
+        assertThat(apres).extracting(ClassementResponse::getStudentId)
+                .containsExactly(benali.getUserId(), alaoui.getUserId());
+        assertThat(apres.get(0).getMoyenneGenerale()).isEqualByComparingTo("12.50");
+        assertThat(apres.get(1).getMoyenneGenerale()).isEqualByComparingTo("9.00");
+    }
+
+    private Module module(String nom) {
+        return moduleRepository.save(Module.builder()
+                .nom(nom)
+                .coefficient(BigDecimal.ONE)
+                .build());
+    }
+
+    private Student etudiant(String nom, String prenom) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(UUID.randomUUID() + "@iseem.ma")
+                    .passwordHash("x")
+                    .role(Role.ETUDIANT)
+                    .nom(nom)
+                    .prenom(prenom)
+                    .build());
+            return studentRepository.save(Student.builder()
+                    .user(user)
+                    .matricule("ISEEM-" + nom)
+                    .niveau(Niveau.premiere_annee)
+                    .groupe("A")
+                    .anneeAcademique(ANNEE)
+                    .build());
+        });
+    }
+
+    private void note(Student student, Module module, String valeur) {
+        noteRepository.save(Note.builder()
+                .student(studentRepository.getReferenceById(student.getUserId()))
+                .module(moduleRepository.getReferenceById(module.getIdModule()))
+                .typeNote(TypeNote.C1)
+                .valeur(new BigDecimal(valeur))
+                .anneeScolaire(ANNEE)
+                .build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.iseem_backend.application.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurseurRechercheTest {
+
+    @Test
+    void decoderRestitueLeCurseurEncode() {
+        UUID id = UUID.randomUUID();
+        String curseur = StudentServiceImpl.encoderCurseur("El Idrissi", "Zineb-Hélène", id);
+
+        assertThat(curseur).matches("[A-Za-z0-9_-]+");
+        assertThat(StudentServiceImpl.decoderCurseur(curseur))
+                .containsExactly("El Idrissi", "Zineb-Hélène", id.toString());
+    }
+
+    @Test
+    void conserveLesChampsVides() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(StudentServiceImpl.decoderCurseur(StudentServiceImpl.encoderCurseur("", "", id)))
+                .containsExactly("", "", id.toString());
+    }
+
+    @Test
+    void curseurAbsentSignifiePremierePage() {
+        assertThat(StudentServiceImpl.decoderCurseur(null)).isNull();
+        assertThat(StudentServiceImpl.decoderCurseur("  ")).isNull();
+    }
+
+    @Test
+    void rejetteUnCurseurInvalide() {
+        String sansSeparateur = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Alaoui".getBytes(StandardCharsets.UTF_8));
+        String identifiantInvalide = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Alaoui\u001FAmine\u001Fpas-un-uuid".getBytes(StandardCharsets.UTF_8));
+
+        for (String curseur : new String[]{"%%%", sansSeparateur, identifiantInvalide}) {
+            assertThatThrownBy(() -> StudentServiceImpl.decoderCurseur(curseur))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("Curseur de recherche invalide");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.iseem_backend.application.service.impl;
+
+import com.iseem_backend.application.DTO.response.BulletinResponse;
+import com.iseem_backend.application.benchmark.JeuDeDonnees;
+import com.iseem_backend.application.enums.Niveau;
+import com.iseem_backend.application.enums.TypeNote;
+import com.iseem_backend.application.model.Module;
+import com.iseem_backend.application.model.Note;
+import com.iseem_backend.application.model.Student;
+import com.iseem_backend.application.utils.MatriceNotes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatriceNotesBulletinTest {
+
+    private final NoteServiceImpl noteService = new NoteServiceImpl(null, null, null, null, null, null, null, null,
+            null, null, null);
+
+    private MatriceNotes matrice;
+    private Map<UUID, Student> etudiants;
+    private Map<UUID, List<Note>> notes;
+
+    @BeforeEach
+    void preparer() {
+        matrice = new MatriceNotes(JeuDeDonnees.ANNEE_SCOLAIRE);
+        etudiants = new HashMap<>();
+        notes = new HashMap<>();
+        List<Module> modules = JeuDeDonnees.modules(12, 7);
+        modules.forEach(module -> matrice.definirModule(module.getIdModule(), module.getCoefficient()));
+        for (Student student : JeuDeDonnees.etudiants(400, 42)) {
+            matrice.definirEtudiant(student.getUserId(), student.getNiveau(), student.getGroupe(),
+                    student.getMatricule(), student.getUser().getNom(), student.getUser().getPrenom());
+            List<Note> notesEtudiant = JeuDeDonnees.notes(student, modules, student.getMatricule().hashCode());
+            for (Note note : notesEtudiant) {
+                matrice.definirNote(student.getUserId(), note.getModule().getIdModule(), note.getTypeNote(),
+                        note.getValeur());
+            }
+            etudiants.put(student.getUserId(), student);
+            notes.put(student.getUserId(), notesEtudiant);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TypeNote.class)
+    void classerCalculeLesMemesMoyennesQueLeBulletin(TypeNote typeEvaluation) {
+        for (Niveau niveau : Niveau.values()) {
+            for (MatriceNotes.LigneClassement ligne : matrice.classer(niveau, typeEvaluation)) {
+                BulletinResponse bulletin = noteService.construireBulletin(etudiants.get(ligne.studentId()),
+                        notes.get(ligne.studentId()), JeuDeDonnees.ANNEE_SCOLAIRE, typeEvaluation);
+
+                assertThat(ligne.moyenne())
+                        .as("moyenne de %s en %s", ligne.matricule(), typeEvaluation)
+                        .isEqualByComparingTo(bulletin.getMoyenneGenerale());
+            }
+        }
+    }
+
+    @Test
+    void classerTrieParMoyenneEtPartageLesRangsExAequo() {
+        List<MatriceNotes.LigneClassement> lignes = matrice.classer(Niveau.premiere_annee, TypeNote.EXAMEN_TH);
+        long attendus = etudiants.values().stream()
+                .filter(student -> student.getNiveau() == Niveau.premiere_annee)
+                .count();
+
+        assertThat(lignes).hasSize((int) attendus);
+        for (int i = 0; i < lignes.size(); i++) {
+            MatriceNotes.LigneClassement ligne = lignes.get(i);
+            assertThat(ligne.effectifNiveau()).isEqualTo(attendus);
+            if (i == 0) {
+                assertThat(ligne.rangNiveau()).isEqualTo(1);
+                continue;
+            }
+            MatriceNotes.LigneClassement precedente = lignes.get(i - 1);
+            assertThat(ligne.moyenne()).isLessThanOrEqualTo(precedente.moyenne());
+            assertThat(ligne.rangNiveau()).isEqualTo(ligne.moyenne().compareTo(precedente.moyenne()) == 0
+                    ? precedente.rangNiveau()
+                    : i + 1);
+        }
+    }
+}
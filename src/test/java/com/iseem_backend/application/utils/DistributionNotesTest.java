@@ -0,0 +1,103 @@
+package com.iseem_backend.application.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DistributionNotesTest {
+
+    @Test
+    void calculeMoyenneEcartTypeEtQuartiles() {
+        DistributionNotes distribution = distribution("2", "4", "4", "4", "5", "5", "7", "9");
+
+        assertThat(distribution.getEffectif()).isEqualTo(8);
+        assertThat(distribution.moyenne()).isEqualByComparingTo("5.00");
+        assertThat(distribution.ecartType()).isEqualByComparingTo("2.00");
+        assertThat(distribution.quantile(0.25)).isEqualByComparingTo("4.00");
+        assertThat(distribution.quantile(0.5)).isEqualByComparingTo("4.50");
+        assertThat(distribution.quantile(0.75)).isEqualByComparingTo("5.50");
+        assertThat(distribution.minimum()).isEqualByComparingTo("2.00");
+        assertThat(distribution.maximum()).isEqualByComparingTo("9.00");
+    }
+
+    @Test
+    void medianeDUnEffectifImpairEstLaValeurCentrale() {
+        DistributionNotes distribution = distribution("12.25", "8.50", "15.75");
+
+        assertThat(distribution.quantile(0.5)).isEqualByComparingTo("12.25");
+        assertThat(distribution.quantile(0)).isEqualByComparingTo("8.50");
+        assertThat(distribution.quantile(1)).isEqualByComparingTo("15.75");
+    }
+
+    @Test
+    void quantilesCorrespondentAUnTriDesNotes() {
+        Random aleatoire = new Random(42);
+        DistributionNotes distribution = new DistributionNotes();
+        List<Integer> centiemes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int valeur = aleatoire.nextInt(2001);
+            centiemes.add(valeur);
+            distribution.ajouter(BigDecimal.valueOf(valeur, 2));
+        }
+        Collections.sort(centiemes);
+
+        for (double q : new double[]{0.1, 0.25, 0.5, 0.75, 0.9}) {
+            double position = q * (centiemes.size() - 1);
+            int rang = (int) Math.floor(position);
+            double attendu = centiemes.get(rang) + (position - rang) * (centiemes.get(rang + 1) - centiemes.get(rang));
+            assertThat(distribution.quantile(q))
+                    .as("quantile %s", q)
+                    .isEqualByComparingTo(BigDecimal.valueOf(attendu / 100).setScale(2, RoundingMode.HALF_UP));
+        }
+
+        double moyenne = centiemes.stream().mapToInt(Integer::intValue).average().orElseThrow();
+        double variance = centiemes.stream().mapToDouble(c -> (c - moyenne) * (c - moyenne)).sum() / centiemes.size();
+        assertThat(distribution.ecartType())
+                .isCloseTo(BigDecimal.valueOf(Math.sqrt(variance) / 100), within(new BigDecimal("0.01")));
+    }
+
+    @Test
+    void remplacerEtFusionnerConserventLesStatistiques() {
+        DistributionNotes distribution = distribution("10", "12");
+        distribution.remplacer(new BigDecimal("12"), new BigDecimal("14"));
+        distribution.fusionner(distribution("16"));
+
+        assertThat(distribution.getEffectif()).isEqualTo(3);
+        assertThat(distribution.moyenne()).isEqualByComparingTo("13.33");
+        assertThat(distribution.quantile(0.5)).isEqualByComparingTo("14.00");
+        assertThat(distribution.tauxAuMoins(new BigDecimal("14"))).isEqualByComparingTo("66.67");
+    }
+
+    @Test
+    void distributionVideNeRenvoiePasDeStatistiques() {
+        DistributionNotes distribution = new DistributionNotes();
+
+        assertThat(distribution.moyenne()).isNull();
+        assertThat(distribution.ecartType()).isNull();
+        assertThat(distribution.quantile(0.5)).isNull();
+        assertThat(distribution.minimum()).isNull();
+    }
+
+    @Test
+    void refuseUneNoteHorsIntervalle() {
+        assertThatThrownBy(() -> distribution("20.01"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DistributionNotes distribution(String... valeurs) {
+        DistributionNotes distribution = new DistributionNotes();
+        for (String valeur : valeurs) {
+            distribution.ajouter(new BigDecimal(valeur));
+        }
+        return distribution;
+    }
+}